@@ -0,0 +1,94 @@
+#!/bin/bash
+
+# Builds and runs the benchmarks for two git revisions and prints a comparison of the results
+# Usage: benchmarks/compare.sh [-b <benchmark revision>] <base revision> <new revision> [benchmark regex]
+#
+# The benchmark sources are taken from the benchmark revision (default: the new revision) for both runs, so that both
+# revisions are measured with the same code. Only the commons bundle is built from the revision under test, uncommitted
+# changes in the working tree are never used.
+
+set -e
+
+function usage() {
+    echo "Usage: $0 [-b <benchmark revision>] <base revision> <new revision> [benchmark regex]"
+    exit 1
+}
+
+BENCHMARK_REVISION=""
+while getopts "b:" opt; do
+    case ${opt} in
+        b) BENCHMARK_REVISION=${OPTARG} ;;
+        *) usage ;;
+    esac
+done
+shift $((OPTIND - 1))
+
+if [[ $# -lt 2 ]]; then
+    usage
+fi
+
+command -v jq >/dev/null 2>&1 || { echo "jq is required for comparing results"; exit 1; }
+
+BASE=$1
+NEW=$2
+FILTER=${3:-""}
+ROOT=$(git rev-parse --show-toplevel)
+RESULTS="${ROOT}/benchmarks/target/results"
+WORKTREE=$(mktemp -d)
+
+# resolve the benchmark sources to a fixed commit, so that both runs use exactly the same benchmarks
+BENCHMARK_COMMIT=$(git -C "${ROOT}" rev-parse --verify "${BENCHMARK_REVISION:-${NEW}}^{commit}")
+git -C "${ROOT}" cat-file -e "${BENCHMARK_COMMIT}:benchmarks/pom.xml" 2>/dev/null ||
+    { echo "Revision ${BENCHMARK_REVISION:-${NEW}} does not contain the benchmarks"; exit 1; }
+
+mkdir -p "${RESULTS}"
+trap 'git -C "${ROOT}" worktree remove --force "${WORKTREE}" >/dev/null 2>&1 || true' EXIT
+
+# the reactor pom of older revisions does not contain the benchmarks module, so the commons bundle of the revision and
+# the benchmarks are built with a separate aggregator pom instead of replacing the reactor pom of the revision
+AGGREGATOR='<project xmlns="http://maven.apache.org/POM/4.0.0">
+  <modelVersion>4.0.0</modelVersion>
+  <groupId>org.smarthomej.addons</groupId>
+  <artifactId>org.smarthomej.addons.benchmarks.aggregator</artifactId>
+  <version>1</version>
+  <packaging>pom</packaging>
+  <modules>
+    <module>bundles/org.smarthomej.commons</module>
+    <module>benchmarks</module>
+  </modules>
+</project>'
+
+function run_benchmarks() {
+    local revision=$1
+    local result="${RESULTS}/${revision//\//_}.json"
+    echo "Running benchmarks for ${revision} (benchmarks from ${BENCHMARK_COMMIT})"
+    git -C "${ROOT}" worktree remove --force "${WORKTREE}" >/dev/null 2>&1 || true
+    git -C "${ROOT}" worktree add --detach "${WORKTREE}" "${revision}" >/dev/null
+    # replace the benchmarks of the revision (if any) with the fixed benchmark sources
+    rm -rf "${WORKTREE}/benchmarks"
+    git -C "${WORKTREE}" checkout "${BENCHMARK_COMMIT}" -- benchmarks
+    echo "${AGGREGATOR}" >"${WORKTREE}/benchmarks-aggregator.xml"
+    (cd "${WORKTREE}" && mvn -q -B -f benchmarks-aggregator.xml clean package -DskipChecks -DskipTests \
+        -Dspotless.check.skip=true)
+    java -jar "${WORKTREE}/benchmarks/target/benchmarks.jar" -prof gc -rf json -rff "${result}" ${FILTER}
+}
+
+run_benchmarks "${BASE}"
+run_benchmarks "${NEW}"
+
+echo
+printf "%-70s %15s %15s %8s %14s %14s\n" "Benchmark" "${BASE}" "${NEW}" "Change" "Alloc base" "Alloc new"
+jq -r -s '
+  def key: .benchmark + (if .params then " " + (.params | to_entries | map(.key + "=" + .value) | join(",")) else "" end);
+  def alloc: (.secondaryMetrics["·gc.alloc.rate.norm"].score // 0);
+  (.[0] | map({key: key, value: .}) | from_entries) as $base
+  | .[1][]
+  | key as $k
+  | select($base[$k])
+  | [$k, $base[$k].primaryMetric.score, .primaryMetric.score,
+     ((.primaryMetric.score - $base[$k].primaryMetric.score) / $base[$k].primaryMetric.score * 100),
+     ($base[$k] | alloc), alloc, .primaryMetric.scoreUnit]
+  | @tsv' "${RESULTS}/${BASE//\//_}.json" "${RESULTS}/${NEW//\//_}.json" |
+while IFS=$'\t' read -r name base new change allocBase allocNew unit; do
+    printf "%-70s %15.3f %15.3f %7.1f%% %12.0f B %12.0f B  (%s)\n" "${name#org.smarthomej.benchmarks.}" "${base}" "${new}" "${change}" "${allocBase}" "${allocNew}" "${unit}"
+done
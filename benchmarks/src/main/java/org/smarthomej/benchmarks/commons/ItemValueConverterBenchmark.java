@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.benchmarks.commons;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+import org.smarthomej.commons.itemvalueconverter.ItemValueConverterChannelConfig;
+import org.smarthomej.commons.itemvalueconverter.converter.ColorItemConverter;
+import org.smarthomej.commons.itemvalueconverter.converter.DimmerItemConverter;
+import org.smarthomej.commons.itemvalueconverter.converter.NumberItemConverter;
+import org.smarthomej.commons.transform.NoOpValueTransformation;
+
+/**
+ * The {@link ItemValueConverterBenchmark} measures the processing of received values in the item value converters
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-XX:+UseParallelGC" })
+public class ItemValueConverterBenchmark {
+    private @Nullable Object result;
+
+    private @NonNullByDefault({}) NumberItemConverter numberItemConverter;
+    private @NonNullByDefault({}) NumberItemConverter numberItemConverterWithUnit;
+    private @NonNullByDefault({}) DimmerItemConverter dimmerItemConverter;
+    private @NonNullByDefault({}) ColorItemConverter colorItemConverterRgb;
+    private @NonNullByDefault({}) ColorItemConverter colorItemConverterHsb;
+
+    // the raw values, a new ContentWrapper is created for each invocation like for each received response
+    private final byte[] number = "1234.5".getBytes(StandardCharsets.UTF_8);
+    private final byte[] quantity = "21.5 °C".getBytes(StandardCharsets.UTF_8);
+    private final byte[] percent = "42".getBytes(StandardCharsets.UTF_8);
+    private final byte[] rgb = "255,127,0".getBytes(StandardCharsets.UTF_8);
+    private final byte[] hsb = "120,100,50".getBytes(StandardCharsets.UTF_8);
+
+    @Setup
+    public void setup() {
+        numberItemConverter = new NumberItemConverter(this::consume, this::consume, this::consume,
+                NoOpValueTransformation.getInstance(), NoOpValueTransformation.getInstance(),
+                new ItemValueConverterChannelConfig());
+
+        ItemValueConverterChannelConfig unitConfig = new ItemValueConverterChannelConfig();
+        unitConfig.unit = "°C";
+        numberItemConverterWithUnit = new NumberItemConverter(this::consume, this::consume, this::consume,
+                NoOpValueTransformation.getInstance(), NoOpValueTransformation.getInstance(), unitConfig);
+
+        dimmerItemConverter = new DimmerItemConverter(this::consume, this::consume, this::consume,
+                NoOpValueTransformation.getInstance(), NoOpValueTransformation.getInstance(),
+                new ItemValueConverterChannelConfig());
+
+        colorItemConverterRgb = new ColorItemConverter(this::consume, this::consume, this::consume,
+                NoOpValueTransformation.getInstance(), NoOpValueTransformation.getInstance(),
+                new ItemValueConverterChannelConfig());
+
+        ItemValueConverterChannelConfig hsbConfig = new ItemValueConverterChannelConfig();
+        hsbConfig.colorMode = ColorItemConverter.ColorMode.HSB;
+        colorItemConverterHsb = new ColorItemConverter(this::consume, this::consume, this::consume,
+                NoOpValueTransformation.getInstance(), NoOpValueTransformation.getInstance(), hsbConfig);
+    }
+
+    @Benchmark
+    public @Nullable Object numberItemConverter() {
+        numberItemConverter.process(content(number));
+        return result;
+    }
+
+    @Benchmark
+    public @Nullable Object numberItemConverterWithUnit() {
+        numberItemConverterWithUnit.process(content(quantity));
+        return result;
+    }
+
+    @Benchmark
+    public @Nullable Object dimmerItemConverter() {
+        dimmerItemConverter.process(content(percent));
+        return result;
+    }
+
+    @Benchmark
+    public @Nullable Object colorItemConverterRgb() {
+        colorItemConverterRgb.process(content(rgb));
+        return result;
+    }
+
+    @Benchmark
+    public @Nullable Object colorItemConverterHsb() {
+        colorItemConverterHsb.process(content(hsb));
+        return result;
+    }
+
+    private void consume(Object value) {
+        result = value;
+    }
+
+    private static ContentWrapper content(byte[] value) {
+        return new ContentWrapper(value, StandardCharsets.UTF_8.name(), null);
+    }
+}
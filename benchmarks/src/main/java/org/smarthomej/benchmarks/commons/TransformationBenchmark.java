@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.benchmarks.commons;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+import org.smarthomej.commons.itemvalueconverter.ItemValueConverterChannelConfig;
+import org.smarthomej.commons.itemvalueconverter.converter.NumberItemConverter;
+import org.smarthomej.commons.transform.CascadedValueTransformation;
+import org.smarthomej.commons.transform.NoOpValueTransformation;
+import org.smarthomej.commons.transform.ValueTransformation;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link TransformationBenchmark} measures cascaded transformations on JSON payloads of different sizes
+ *
+ * The transformation services are replaced by simple implementations, so only the overhead of the transformation
+ * framework and the JSON handling in the commons bundle is measured. The benchmark only uses API that is available in
+ * all revisions of the commons bundle, so that it can be used for comparing revisions with {@code compare.sh}.
+ *
+ * Each invocation transforms a different payload (the payloads are rotated and differ in a sequence number), so caches
+ * of parsed documents in the commons bundle never hit and every invocation includes parsing the payload, like a new
+ * response of a polled URL.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-XX:+UseParallelGC" })
+public class TransformationBenchmark {
+    private static final TransformationService REGEX_SERVICE = (function, source) -> {
+        Matcher matcher = Pattern.compile(function).matcher(source);
+        return matcher.find() && matcher.groupCount() > 0 ? matcher.group(1) : null;
+    };
+    // more than the number of documents cached by the commons bundle
+    private static final int PAYLOAD_COUNT = 16;
+    private static final Pattern ARRAY_ELEMENT_PATH = Pattern.compile("\\$\\.(\\w+)\\[(\\d+)]\\.(\\w+)");
+    // parses the full document on each call like the real service, revisions that evaluate simple paths in the commons
+    // bundle do not call it at all
+    private static final TransformationService JSONPATH_SERVICE = (function, source) -> {
+        Matcher matcher = ARRAY_ELEMENT_PATH.matcher(function);
+        if (!matcher.matches()) {
+            return null;
+        }
+        JsonElement element = JsonParser.parseString(source).getAsJsonObject().getAsJsonArray(matcher.group(1))
+                .get(Integer.parseInt(matcher.group(2))).getAsJsonObject().get(matcher.group(3));
+        return element == null ? null : element.getAsString();
+    };
+
+    /**
+     * number of sensor entries in the payload (~100 bytes each)
+     */
+    @Param({ "10", "1000", "20000" })
+    public int entries;
+
+    private final byte[][] payloads = new byte[PAYLOAD_COUNT][];
+    private int nextPayload = 0;
+    private @NonNullByDefault({}) ValueTransformation jsonPathTransformation;
+    private @NonNullByDefault({}) ValueTransformation cascadedTransformation;
+    private @NonNullByDefault({}) NumberItemConverter numberItemConverter;
+    private @Nullable Object result;
+
+    @Setup
+    public void setup() {
+        for (int sequence = 0; sequence < PAYLOAD_COUNT; sequence++) {
+            StringBuilder builder = new StringBuilder("{\"sequence\":").append(sequence).append(",\"sensors\":[");
+            for (int i = 0; i < entries; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append("{\"id\":").append(i).append(",\"name\":\"sensor").append(i)
+                        .append("\",\"temperature\":").append(20.0 + (i % 100) / 10.0)
+                        .append(",\"humidity\":").append(40 + i % 20).append(",\"online\":true}");
+            }
+            builder.append("]}");
+            payloads[sequence] = builder.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        Function<String, @Nullable TransformationService> services = name -> {
+            switch (name) {
+                case "REGEX":
+                    return REGEX_SERVICE;
+                case "JSONPATH":
+                    return JSONPATH_SERVICE;
+                default:
+                    return null;
+            }
+        };
+        String path = "$.sensors[" + (entries - 1) + "].temperature";
+        jsonPathTransformation = new CascadedValueTransformation("JSONPATH:" + path, services);
+        cascadedTransformation = new CascadedValueTransformation(
+                "JSONPATH:" + path + "∩REGEX:(\\d+)\\..*∩REGEX:(.*)", services);
+        numberItemConverter = new NumberItemConverter(this::consume, this::consume, this::consume,
+                jsonPathTransformation, NoOpValueTransformation.getInstance(), new ItemValueConverterChannelConfig());
+    }
+
+    @Benchmark
+    public Optional<String> jsonPath() {
+        return jsonPathTransformation.apply(content().getAsString());
+    }
+
+    @Benchmark
+    public Optional<String> cascaded() {
+        return cascadedTransformation.apply(content().getAsString());
+    }
+
+    @Benchmark
+    public @Nullable Object numberItemConverter() {
+        numberItemConverter.process(content());
+        return result;
+    }
+
+    private ContentWrapper content() {
+        byte[] payload = payloads[nextPayload];
+        nextPayload = (nextPayload + 1) % PAYLOAD_COUNT;
+        return new ContentWrapper(payload, StandardCharsets.UTF_8.name(), "application/json");
+    }
+
+    private void consume(Object value) {
+        result = value;
+    }
+}
@@ -54,6 +54,9 @@ public class DmxBindingConstants {
     public static final String CONFIG_ADDRESS = "address";
     public static final String CONFIG_LOCAL_ADDRESS = "localaddress";
     public static final String CONFIG_REFRESH_MODE = "refreshmode";
+    public static final String CONFIG_UNIVERSE_COUNT = "universecount";
+    public static final String CONFIG_ARTNET_SYNC = "sync";
+    public static final String CONFIG_SACN_SYNC_UNIVERSE = "syncuniverse";
 
     public static final String CONFIG_DIMMER_TYPE = "dimmertype";
     public static final String CONFIG_DIMMER_FADE_TIME = "fadetime";
@@ -77,6 +80,13 @@ public class DmxBindingConstants {
     public static final String CHANNEL_SWITCH = "switch";
     public static final String CHANNEL_CONTROL = "control";
     public static final String CHANNEL_MUTE = "mute";
+    public static final String CHANNEL_FPS = "fps";
+    public static final String CHANNEL_RENDER_TIME = "rendertime";
+    public static final String CHANNEL_SEND_TIME = "sendtime";
+    public static final String CHANNEL_JITTER = "jitter";
+    public static final String CHANNEL_DROPPED_FRAMES = "droppedframes";
+    public static final String CHANNEL_REPEATED_FRAMES = "repeatedframes";
+    public static final String CHANNEL_SEND_ERRORS = "senderrors";
 
     public static final ChannelTypeUID BRIGHTNESS_CHANNEL_TYPEUID = new ChannelTypeUID(BINDING_ID, CHANNEL_BRIGHTNESS);
 
@@ -13,7 +13,7 @@
  */
 package org.smarthomej.binding.dmx.internal;
 
-import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.CHANNEL_MUTE;
+import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,6 +23,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNull;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
@@ -35,8 +36,9 @@ import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.types.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.dmx.internal.action.ChaseTimeline;
 import org.smarthomej.binding.dmx.internal.action.DmxActions;
-import org.smarthomej.binding.dmx.internal.action.FadeAction;
+import org.smarthomej.binding.dmx.internal.action.FadeCurve;
 import org.smarthomej.binding.dmx.internal.action.ResumeAction;
 import org.smarthomej.binding.dmx.internal.config.DmxBridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.multiverse.BaseDmxChannel;
@@ -52,12 +54,16 @@ import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     public static final int DEFAULT_REFRESH_RATE = 20;
+    public static final int STATISTICS_INTERVAL = 10; // in s
 
     private final Logger logger = LoggerFactory.getLogger(DmxBridgeHandler.class);
 
     protected Universe universe;
+    protected List<Universe> additionalUniverses = List.of();
+    protected final FrameStatistics statistics = new FrameStatistics();
 
     private ScheduledFuture<?> senderJob;
+    private ScheduledFuture<?> statisticsJob;
     private boolean isMuted = false;
     private int refreshTime = 1000 / DEFAULT_REFRESH_RATE;
 
@@ -76,6 +82,15 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
                             this.thing.getUID());
                 }
                 break;
+            case CHANNEL_FPS:
+            case CHANNEL_RENDER_TIME:
+            case CHANNEL_SEND_TIME:
+            case CHANNEL_JITTER:
+            case CHANNEL_DROPPED_FRAMES:
+            case CHANNEL_REPEATED_FRAMES:
+            case CHANNEL_SEND_ERRORS:
+                // statistics are updated periodically
+                break;
             default:
                 logger.warn("Channel {} not supported in bridge {}", channelUID.getId(), this.thing.getUID());
         }
@@ -89,7 +104,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      * @return a Channel object
      */
     public DmxChannel getDmxChannel(BaseDmxChannel channel, Thing thing) {
-        return universe.registerChannel(channel, thing);
+        return getUniverse(channel.getUniverseId()).registerChannel(channel, thing);
     }
 
     /**
@@ -98,7 +113,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      * @param thing the thing that shall be removed
      */
     public void unregisterDmxChannels(Thing thing) {
-        universe.unregisterChannels(thing);
+        getUniverses().forEach(u -> u.unregisterChannels(thing));
     }
 
     /**
@@ -110,6 +125,38 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         return universe.getUniverseId();
     }
 
+    /**
+     * get all universes handled by this bridge
+     *
+     * @return list of universes, the universe associated with this bridge is the first element
+     */
+    protected List<Universe> getUniverses() {
+        List<Universe> universes = new ArrayList<>();
+        universes.add(universe);
+        universes.addAll(additionalUniverses);
+        return universes;
+    }
+
+    /**
+     * get a universe handled by this bridge
+     *
+     * @param universeId the DMX universe id
+     * @return the universe
+     * @throws IllegalArgumentException if the universe is not handled by this bridge
+     */
+    protected Universe getUniverse(int universeId) throws IllegalArgumentException {
+        if (universe.getUniverseId() == universeId) {
+            return universe;
+        }
+        for (Universe additionalUniverse : additionalUniverses) {
+            if (additionalUniverse.getUniverseId() == universeId) {
+                return additionalUniverse;
+            }
+        }
+        throw new IllegalArgumentException(
+                String.format("Universe %d is not handled by bridge %s", universeId, this.thing.getUID()));
+    }
+
     /**
      * rename the universe associated with this bridge
      *
@@ -158,15 +205,20 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
             uninstallScheduler();
         }
         if (refreshTime > 0) {
+            statistics.reset(refreshTime);
             senderJob = scheduler.scheduleAtFixedRate(() -> {
                 logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
                         getThing().getStatus(), isMuted);
                 if (!isMuted) {
+                    statistics.frameStarted(System.nanoTime());
                     sendDmxData();
                 } else {
+                    statistics.paused();
                     logger.trace("bridge {} is muted", getThing().getUID());
                 }
             }, 1, refreshTime, TimeUnit.MILLISECONDS);
+            statisticsJob = scheduler.scheduleWithFixedDelay(this::publishStatistics, STATISTICS_INTERVAL,
+                    STATISTICS_INTERVAL, TimeUnit.SECONDS);
             logger.trace("started scheduler for thing {}", this.thing.getUID());
         } else {
             logger.info("refresh disabled for thing {}", this.thing.getUID());
@@ -182,14 +234,45 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
                 senderJob.cancel(true);
             }
             senderJob = null;
+            if (statisticsJob != null) {
+                statisticsJob.cancel(false);
+                statisticsJob = null;
+            }
             closeConnection();
             logger.trace("stopping scheduler for thing {}", this.thing.getUID());
         }
     }
 
+    /**
+     * publish the frame statistics of the last interval to the statistics channels
+     */
+    private void publishStatistics() {
+        FrameStatistics.Snapshot snapshot = statistics.getAndReset();
+        logger.debug("frame statistics for {}: {}", this.thing.getUID(), snapshot);
+        updateStatistic(CHANNEL_FPS, snapshot.fps);
+        updateStatistic(CHANNEL_RENDER_TIME, snapshot.renderTime);
+        updateStatistic(CHANNEL_SEND_TIME, snapshot.sendTime);
+        updateStatistic(CHANNEL_JITTER, snapshot.jitter99);
+        updateStatistic(CHANNEL_DROPPED_FRAMES, snapshot.droppedFrames);
+        updateStatistic(CHANNEL_REPEATED_FRAMES, snapshot.repeatedFrames);
+        updateStatistic(CHANNEL_SEND_ERRORS, snapshot.sendErrors);
+    }
+
+    private void updateStatistic(String channelId, double value) {
+        if (isLinked(channelId)) {
+            updateState(channelId, new DecimalType(value));
+        }
+    }
+
+    private void updateStatistic(String channelId, long value) {
+        if (isLinked(channelId)) {
+            updateState(channelId, new DecimalType(value));
+        }
+    }
+
     @Override
     public void childHandlerDisposed(ThingHandler thingHandler, Thing thing) {
-        universe.unregisterChannels(thing);
+        unregisterDmxChannels(thing);
     }
 
     /**
@@ -199,7 +282,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         DmxBridgeHandlerConfiguration configuration = getConfig().as(DmxBridgeHandlerConfiguration.class);
 
         if (!configuration.applycurve.isEmpty()) {
-            universe.setDimCurveChannels(configuration.applycurve);
+            getUniverses().forEach(u -> u.setDimCurveChannels(configuration.applycurve));
         }
 
         int refreshRate = configuration.refreshrate;
@@ -237,6 +320,51 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * set the number of consecutive universes following the universe of this bridge
+     *
+     * Existing universes are renamed, so channels registered by things are kept. Things that registered channels in
+     * universes that are removed are notified and go offline.
+     *
+     * @param count number of additional universes
+     * @param maxUniverseId the maximum id allowed by the bridge
+     */
+    protected void setAdditionalUniverses(int count, int maxUniverseId) {
+        int firstUniverseId = universe.getUniverseId();
+        int universeCount = Util.coerceToRange(count, 0, maxUniverseId - firstUniverseId, logger,
+                "additional universes");
+
+        List<Universe> universes = new ArrayList<>();
+        for (int i = 0; i < universeCount; i++) {
+            int universeId = firstUniverseId + 1 + i;
+            if (i < additionalUniverses.size()) {
+                Universe additionalUniverse = additionalUniverses.get(i);
+                if (additionalUniverse.getUniverseId() != universeId) {
+                    additionalUniverse.rename(universeId);
+                }
+                universes.add(additionalUniverse);
+            } else {
+                universes.add(new Universe(universeId));
+            }
+        }
+        int previousCount = additionalUniverses.size();
+        List<Universe> removedUniverses = additionalUniverses.subList(Math.min(universeCount, previousCount),
+                previousCount);
+        additionalUniverses = List.copyOf(universes);
+
+        for (Universe removedUniverse : removedUniverses) {
+            for (Thing thing : removedUniverse.getRegisteredThings()) {
+                logger.warn("Universe {} was removed from bridge {} but is still used by thing {}",
+                        removedUniverse.getUniverseId(), this.thing.getUID(), thing.getUID());
+                removedUniverse.unregisterChannels(thing);
+                ThingHandler handler = thing.getHandler();
+                if (handler instanceof DmxThingHandler) {
+                    ((DmxThingHandler) handler).universeRemoved(removedUniverse.getUniverseId());
+                }
+            }
+        }
+    }
+
     /**
      * sends an immediate fade to the DMX output (for rule actions)
      *
@@ -259,8 +387,8 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         }
 
         // parse fade config
-        List<ValueSet> value = ValueSet.parseChaseConfig(fadeString);
-        if (value.isEmpty()) {
+        ChaseTimeline chase = ChaseTimeline.fromString(fadeString, FadeCurve.LINEAR);
+        if (chase.isEmpty()) {
             logger.warn("invalid fade configuration: {}", fadeString);
             return;
         }
@@ -273,10 +401,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
             } else {
                 channel.clearAction();
             }
-            for (ValueSet step : value) {
-                channel.addChannelAction(
-                        new FadeAction(step.getFadeTime(), step.getValue(channelCounter), step.getHoldTime()));
-            }
+            chase.addActions(channel, channelCounter);
             if (resumeAfter) {
                 channel.addChannelAction(new ResumeAction());
             }
@@ -55,6 +55,17 @@ public abstract class DmxThingHandler extends BaseThingHandler {
     public void updateChannelValue(ChannelUID channelUID, int value) {
     }
 
+    /**
+     * called by the bridge if a universe that contains channels of this thing is no longer handled by the bridge
+     *
+     * @param universeId the id of the removed universe
+     */
+    public void universeRemoved(int universeId) {
+        dmxHandlerStatus = ThingStatusDetail.CONFIGURATION_ERROR;
+        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                String.format("Universe %d is no longer handled by the bridge", universeId));
+    }
+
     @Override
     public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
         super.bridgeStatusChanged(bridgeStatusInfo);
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal;
+
+import java.util.Arrays;
+
+/**
+ * The {@link FrameStatistics} collects the frame timing of a bridge
+ *
+ * The sender records each frame, the statistics are read (and reset) periodically. Frame interval jitter is recorded
+ * in a log-linear histogram (similar to an HDR histogram with two significant digits), so percentiles can be
+ * calculated without storing single values.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public class FrameStatistics {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_VALUE = (1L << 24) - 1; // in µs, about 16 s
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final long[] jitterHistogram = new long[BUCKET_COUNT];
+
+    private long expectedInterval;
+    private long windowStart;
+    private long lastFrameStart;
+
+    private long frames;
+    private long renderTime;
+    private long maxRenderTime;
+    private long sendTime;
+    private long maxSendTime;
+    private long droppedFrames;
+    private long repeatedFrames;
+    private long sendErrors;
+
+    /**
+     * reset the statistics
+     *
+     * @param refreshTime the configured refresh time in ms
+     */
+    public synchronized void reset(int refreshTime) {
+        expectedInterval = refreshTime * 1000L;
+        lastFrameStart = 0;
+        clear(System.nanoTime());
+    }
+
+    /**
+     * record the start of a frame
+     *
+     * @param nanoTime the current {@link System#nanoTime()}
+     */
+    public synchronized void frameStarted(long nanoTime) {
+        if (lastFrameStart != 0) {
+            long interval = (nanoTime - lastFrameStart) / 1000;
+            jitterHistogram[bucketIndex(Math.abs(interval - expectedInterval))]++;
+        }
+        lastFrameStart = nanoTime;
+        frames++;
+    }
+
+    /**
+     * record the time needed for rendering the universe(s) of a frame
+     *
+     * @param nanos the render time in ns
+     */
+    public synchronized void rendered(long nanos) {
+        renderTime += nanos;
+        maxRenderTime = Math.max(maxRenderTime, nanos);
+    }
+
+    /**
+     * record the time needed for sending the data of a frame
+     *
+     * @param nanos the send time in ns
+     */
+    public synchronized void sent(long nanos) {
+        sendTime += nanos;
+        maxSendTime = Math.max(maxSendTime, nanos);
+    }
+
+    /**
+     * record that no frames are sent for now (e.g. the bridge is muted)
+     *
+     * The next frame starts a new interval, so the pause is not recorded as jitter.
+     */
+    public synchronized void paused() {
+        lastFrameStart = 0;
+    }
+
+    /**
+     * record a frame that was dropped because the receiver could not accept it in time
+     *
+     * Universes that are not sent because their data did not change are not counted.
+     */
+    public synchronized void frameDropped() {
+        droppedFrames++;
+    }
+
+    /**
+     * record a frame (or universe) that was sent again without changes
+     */
+    public synchronized void frameRepeated() {
+        repeatedFrames++;
+    }
+
+    /**
+     * record a failed transmission
+     */
+    public synchronized void sendError() {
+        sendErrors++;
+    }
+
+    /**
+     * get the statistics since the last call and reset them
+     *
+     * @return the statistics
+     */
+    public synchronized Snapshot getAndReset() {
+        long now = System.nanoTime();
+        double seconds = Math.max(now - windowStart, 1) / 1e9;
+        long divisor = Math.max(frames, 1);
+        Snapshot snapshot = new Snapshot(frames / seconds, renderTime / divisor / 1e6, maxRenderTime / 1e6,
+                sendTime / divisor / 1e6, maxSendTime / 1e6, getJitterPercentile(0.5) / 1e3,
+                getJitterPercentile(0.99) / 1e3, getJitterPercentile(1.0) / 1e3, droppedFrames, repeatedFrames,
+                sendErrors);
+        clear(now);
+        return snapshot;
+    }
+
+    private void clear(long now) {
+        windowStart = now;
+        frames = 0;
+        renderTime = 0;
+        maxRenderTime = 0;
+        sendTime = 0;
+        maxSendTime = 0;
+        droppedFrames = 0;
+        repeatedFrames = 0;
+        sendErrors = 0;
+        Arrays.fill(jitterHistogram, 0);
+    }
+
+    /**
+     * get a percentile of the recorded jitter
+     *
+     * @param percentile the percentile (0.0 - 1.0)
+     * @return the upper bound of the jitter in µs (0 if nothing was recorded)
+     */
+    private long getJitterPercentile(double percentile) {
+        long total = 0;
+        for (long count : jitterHistogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long limit = Math.max(1, (long) Math.ceil(total * percentile));
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += jitterHistogram[i];
+            if (count >= limit) {
+                return bucketUpperBound(i);
+            }
+        }
+        return MAX_VALUE;
+    }
+
+    static int bucketIndex(long value) {
+        long v = Math.min(Math.max(value, 0), MAX_VALUE);
+        if (v < 2 * SUB_BUCKET_COUNT) {
+            return (int) v;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BUCKET_BITS;
+        return (int) (SUB_BUCKET_COUNT * shift + (v >> shift));
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * The {@link Snapshot} holds the frame statistics of one interval (all times in ms)
+     */
+    public static class Snapshot {
+        public final double fps;
+        public final double renderTime;
+        public final double maxRenderTime;
+        public final double sendTime;
+        public final double maxSendTime;
+        public final double jitterMedian;
+        public final double jitter99;
+        public final double jitterMax;
+        public final long droppedFrames;
+        public final long repeatedFrames;
+        public final long sendErrors;
+
+        public Snapshot(double fps, double renderTime, double maxRenderTime, double sendTime, double maxSendTime,
+                double jitterMedian, double jitter99, double jitterMax, long droppedFrames, long repeatedFrames,
+                long sendErrors) {
+            this.fps = fps;
+            this.renderTime = renderTime;
+            this.maxRenderTime = maxRenderTime;
+            this.sendTime = sendTime;
+            this.maxSendTime = maxSendTime;
+            this.jitterMedian = jitterMedian;
+            this.jitter99 = jitter99;
+            this.jitterMax = jitterMax;
+            this.droppedFrames = droppedFrames;
+            this.repeatedFrames = repeatedFrames;
+            this.sendErrors = sendErrors;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.1f fps, render %.3f/%.3f ms, send %.3f/%.3f ms, jitter %.2f/%.2f/%.2f ms, "
+                    + "dropped %d, repeated %d, errors %d", fps, renderTime, maxRenderTime, sendTime, maxSendTime,
+                    jitterMedian, jitter99, jitterMax, droppedFrames, repeatedFrames, sendErrors);
+        }
+    }
+}
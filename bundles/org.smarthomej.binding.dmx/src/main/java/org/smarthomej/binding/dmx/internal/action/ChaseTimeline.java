@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.action;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.smarthomej.binding.dmx.internal.ValueSet;
+import org.smarthomej.binding.dmx.internal.multiverse.DmxChannel;
+
+/**
+ * The {@link ChaseTimeline} is a compiled chase configuration. Each step holds a shared {@link FadeTimeline}, so
+ * running the chase on any number of channels only needs a table lookup per channel and frame.
+ *
+ * Compiled chases are immutable and cached by their configuration string, so sending the same configuration again
+ * does not parse it again.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public final class ChaseTimeline {
+    private static final int MAX_CACHE_SIZE = 64;
+    private static final Map<String, ChaseTimeline> CACHE = new LinkedHashMap<>(MAX_CACHE_SIZE + 1, 1.0f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ChaseTimeline> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    public static final ChaseTimeline EMPTY = new ChaseTimeline(List.of());
+
+    private final List<Step> steps;
+
+    private ChaseTimeline(List<Step> steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * get the compiled chase for a configuration string
+     *
+     * @param chaseConfig a string containing the chase definition (see {@link ValueSet#parseChaseConfig(String)})
+     * @param curve the fade curve for all steps
+     * @return the compiled chase ({@link #EMPTY} if the configuration is malformed)
+     */
+    public static ChaseTimeline fromString(String chaseConfig, FadeCurve curve) {
+        String key = curve + ":" + chaseConfig;
+        synchronized (CACHE) {
+            ChaseTimeline chase = CACHE.get(key);
+            if (chase != null) {
+                return chase;
+            }
+        }
+
+        List<Step> steps = new ArrayList<>();
+        for (ValueSet valueSet : ValueSet.parseChaseConfig(chaseConfig)) {
+            int[] values = new int[valueSet.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = valueSet.getValue(i);
+            }
+            steps.add(new Step(FadeTimeline.of(valueSet.getFadeTime(), curve), values, valueSet.getHoldTime()));
+        }
+        ChaseTimeline chase = steps.isEmpty() ? EMPTY : new ChaseTimeline(Collections.unmodifiableList(steps));
+
+        synchronized (CACHE) {
+            CACHE.put(key, chase);
+        }
+        return chase;
+    }
+
+    /**
+     * add the actions of this chase to a channel
+     *
+     * @param channel the DMX channel
+     * @param channelIndex the index of the channel in the chase (selects the value of each step)
+     */
+    public void addActions(DmxChannel channel, int channelIndex) {
+        for (Step step : steps) {
+            channel.addChannelAction(new FadeAction(step.timeline,
+                    step.values[channelIndex % step.values.length], step.holdTime));
+        }
+    }
+
+    /**
+     * returns true if this chase contains no steps
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    /**
+     * returns the number of steps in this chase
+     *
+     * @return number of steps
+     */
+    public int size() {
+        return steps.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ChaseTimeline: " + steps.size() + " steps";
+    }
+
+    private static class Step {
+        private final FadeTimeline timeline;
+        private final int[] values;
+        private final int holdTime;
+
+        public Step(FadeTimeline timeline, int[] values, int holdTime) {
+            this.timeline = timeline;
+            this.values = values;
+            this.holdTime = holdTime;
+        }
+    }
+}
@@ -30,8 +30,8 @@ public class FadeAction extends BaseAction {
     /** Time in ms to hold the target value. -1 is indefinite */
     private long holdTime;
 
-    /** Time in ms to fade from current value to new target value */
-    private long fadeTime;
+    /** Precomputed fade from current value to new target value */
+    private final FadeTimeline timeline;
 
     /** Channel output value on action start. **/
     private int startValue;
@@ -39,30 +39,34 @@ public class FadeAction extends BaseAction {
     /** Desired channel output value. **/
     private final int targetValue;
 
-    private float stepDuration;
-
-    private FadeDirection fadeDirection;
-
     /**
      * Create new fading action.
      *
-     * @param fadeTime time in ms to fade from the current value to the new value.
+     * @param timeline the (shared) timeline of the fade
      * @param targetValue new value 0-255 for this channel.
      * @param holdTime time in ms to hold the color before moving to the next action. -1 is indefinite.
      */
-    public FadeAction(int fadeTime, int targetValue, int holdTime) {
+    public FadeAction(FadeTimeline timeline, int targetValue, int holdTime) {
         super();
 
-        this.fadeTime = fadeTime;
+        this.timeline = timeline;
         this.targetValue = Util.toDmxValue(targetValue) << 8;
         this.holdTime = holdTime;
 
         if (holdTime < -1) {
             this.holdTime = -1;
         }
-        if (fadeTime < 0) {
-            this.fadeTime = 0;
-        }
+    }
+
+    /**
+     * Create new linear fading action.
+     *
+     * @param fadeTime time in ms to fade from the current value to the new value.
+     * @param targetValue new value 0-255 for this channel.
+     * @param holdTime time in ms to hold the color before moving to the next action. -1 is indefinite.
+     */
+    public FadeAction(int fadeTime, int targetValue, int holdTime) {
+        this(FadeTimeline.of(fadeTime, FadeCurve.LINEAR), targetValue, holdTime);
     }
 
     public FadeAction(int fadeTime, PercentType targetValue, int holdTime) {
@@ -75,53 +79,15 @@ public class FadeAction extends BaseAction {
 
     @Override
     public int getNewValue(DmxChannel channel, long currentTime) {
-        int newValue = channel.getHiResValue();
-
         if (startTime == 0) {
             startTime = currentTime;
             state = ActionState.RUNNING;
-
-            if (fadeTime != 0) {
-                startValue = channel.getHiResValue();
-
-                // calculate fade details
-                if (startValue == targetValue) {
-                    stepDuration = 1;
-                } else if (startValue > targetValue) {
-                    fadeDirection = FadeDirection.DOWN;
-                    stepDuration = (float) fadeTime / (startValue - targetValue);
-                } else {
-                    fadeDirection = FadeDirection.UP;
-                    stepDuration = (float) fadeTime / (targetValue - startValue);
-                }
-            } else {
-                newValue = targetValue;
-            }
+            startValue = channel.getHiResValue();
         }
 
         long duration = currentTime - startTime;
-
-        if ((fadeTime != 0) && (newValue != targetValue)) {
-            // calculate new fade value
-            if (stepDuration == 0) {
-                stepDuration = 1;
-            }
-            int currentStep = (int) (duration / stepDuration);
-
-            if (fadeDirection == FadeDirection.UP) {
-                newValue = startValue + currentStep;
-                if (newValue > targetValue) {
-                    newValue = targetValue;
-                }
-            } else {
-                newValue = startValue - currentStep;
-                if (newValue < targetValue) {
-                    newValue = targetValue;
-                }
-            }
-        } else {
-            newValue = targetValue;
-        }
+        int fadeTime = timeline.getFadeTime();
+        int newValue = timeline.getValue(startValue, targetValue, duration);
 
         if (newValue == targetValue) {
             if (holdTime > -1) {
@@ -141,7 +107,7 @@ public class FadeAction extends BaseAction {
 
     @Override
     public @NonNull String toString() {
-        return "FadeAction: " + String.valueOf(targetValue) + ", fade time " + String.valueOf(fadeTime)
-                + "ms, hold time " + String.valueOf(holdTime) + "ms";
+        return "FadeAction: " + String.valueOf(targetValue) + ", fade time " + String.valueOf(timeline.getFadeTime())
+                + "ms (" + timeline.getCurve() + "), hold time " + String.valueOf(holdTime) + "ms";
     }
 }
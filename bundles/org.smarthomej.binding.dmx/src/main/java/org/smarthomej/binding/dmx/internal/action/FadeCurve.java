@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.action;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The {@link FadeCurve} defines the progress of a fade over time
+ *
+ * linear : the value changes at a constant rate
+ * scurve : the fade starts and ends slowly (smoothstep)
+ * cie : the perceived brightness (CIE 1931 lightness) changes at a constant rate
+ *
+ * All curves are stored as fixed-point tables, the progress is in the range of 0 - {@link #ONE}.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public enum FadeCurve {
+    LINEAR(t -> t),
+    SCURVE(t -> t * t * (3 - 2 * t)),
+    CIE(t -> {
+        double lightness = 100 * t;
+        return lightness <= 8 ? lightness / 903.3 : Math.pow((lightness + 16) / 116, 3);
+    });
+
+    /** fixed-point representation of a progress of 1.0 */
+    public static final int ONE = 1 << 16;
+
+    private static final int TABLE_BITS = 10;
+    private static final int TABLE_SHIFT = 16 - TABLE_BITS;
+    private static final int TABLE_MASK = (1 << TABLE_SHIFT) - 1;
+
+    private final int[] table;
+
+    FadeCurve(DoubleUnaryOperator curve) {
+        int size = 1 << TABLE_BITS;
+        table = new int[size + 1];
+        for (int i = 0; i <= size; i++) {
+            table[i] = (int) Math.round(curve.applyAsDouble((double) i / size) * ONE);
+        }
+        table[0] = 0;
+        table[size] = ONE;
+    }
+
+    /**
+     * get the curve value for a given progress
+     *
+     * @param progress linear progress (0 - {@link #ONE})
+     * @return curve progress (0 - {@link #ONE})
+     */
+    public int apply(int progress) {
+        if (this == LINEAR) {
+            return progress;
+        }
+        int index = progress >>> TABLE_SHIFT;
+        int value = table[index];
+        int fraction = progress & TABLE_MASK;
+        if (fraction != 0) {
+            value += ((table[index + 1] - value) * fraction) >> TABLE_SHIFT;
+        }
+        return value;
+    }
+
+    /**
+     * get a fade curve from its name
+     *
+     * @param name the name of the curve (case-insensitive)
+     * @return the fade curve
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static FadeCurve fromString(String name) throws IllegalArgumentException {
+        return FadeCurve.valueOf(name.trim().toUpperCase());
+    }
+}
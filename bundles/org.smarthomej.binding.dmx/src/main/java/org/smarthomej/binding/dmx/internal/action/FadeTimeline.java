@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.action;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link FadeTimeline} is a precomputed fade of a given duration and curve. It maps the time since the start of
+ * the fade to the fixed-point progress of the fade using integer operations only.
+ *
+ * Timelines are immutable and shared between all actions with the same parameters.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public final class FadeTimeline {
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<Long, FadeTimeline> CACHE = new ConcurrentHashMap<>();
+
+    public static final FadeTimeline IMMEDIATE = new FadeTimeline(0, FadeCurve.LINEAR);
+
+    private final int fadeTime;
+    private final FadeCurve curve;
+    // progress per ms in 1/2^16 of FadeCurve.ONE, rounded up so the fade always completes after fadeTime
+    private final long scale;
+
+    private FadeTimeline(int fadeTime, FadeCurve curve) {
+        this.fadeTime = fadeTime;
+        this.curve = curve;
+        this.scale = fadeTime > 0 ? ((long) FadeCurve.ONE << 16) / fadeTime + 1 : 0;
+    }
+
+    /**
+     * get the timeline for a given fade time and curve
+     *
+     * @param fadeTime fade time in ms (values < 0 are treated as 0)
+     * @param curve the fade curve
+     * @return the (shared) timeline
+     */
+    public static FadeTimeline of(int fadeTime, FadeCurve curve) {
+        if (fadeTime <= 0) {
+            return IMMEDIATE;
+        }
+        long key = ((long) fadeTime << 8) | curve.ordinal();
+        FadeTimeline timeline = CACHE.get(key);
+        if (timeline == null) {
+            timeline = new FadeTimeline(fadeTime, curve);
+            // fade times that depend on the current value are arbitrary, don't let the cache grow without limit
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                FadeTimeline existing = CACHE.putIfAbsent(key, timeline);
+                if (existing != null) {
+                    timeline = existing;
+                }
+            }
+        }
+        return timeline;
+    }
+
+    /**
+     * get the progress of the fade
+     *
+     * @param elapsedTime time in ms since the start of the fade
+     * @return progress (0 - {@link FadeCurve#ONE})
+     */
+    public int getProgress(long elapsedTime) {
+        if (elapsedTime >= fadeTime) {
+            return FadeCurve.ONE;
+        } else if (elapsedTime <= 0) {
+            return 0;
+        }
+        return curve.apply((int) Math.min((elapsedTime * scale) >>> 16, FadeCurve.ONE));
+    }
+
+    /**
+     * get the value at a given time
+     *
+     * @param startValue the value at the start of the fade
+     * @param targetValue the value at the end of the fade
+     * @param elapsedTime time in ms since the start of the fade
+     * @return the interpolated value
+     */
+    public int getValue(int startValue, int targetValue, long elapsedTime) {
+        int progress = getProgress(elapsedTime);
+        if (targetValue >= startValue) {
+            return startValue + (int) (((long) (targetValue - startValue) * progress) >> 16);
+        } else {
+            return startValue - (int) (((long) (startValue - targetValue) * progress) >> 16);
+        }
+    }
+
+    public int getFadeTime() {
+        return fadeTime;
+    }
+
+    public FadeCurve getCurve() {
+        return curve;
+    }
+
+    @Override
+    public String toString() {
+        return "FadeTimeline: " + fadeTime + "ms, " + curve;
+    }
+}
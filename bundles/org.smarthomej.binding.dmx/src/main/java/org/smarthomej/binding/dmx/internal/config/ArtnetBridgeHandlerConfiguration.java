@@ -27,4 +27,6 @@ public class ArtnetBridgeHandlerConfiguration {
     public String address = "";
     public String localaddress = "";
     public String refreshmode = "standard";
+    public int universecount = 1;
+    public boolean sync = false;
 }
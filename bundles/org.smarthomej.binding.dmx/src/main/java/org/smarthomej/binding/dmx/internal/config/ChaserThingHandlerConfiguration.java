@@ -26,4 +26,5 @@ public class ChaserThingHandlerConfiguration {
     public String dmxid = "";
     public String steps = "";
     public boolean resumeafter = false;
+    public String fadecurve = "linear";
 }
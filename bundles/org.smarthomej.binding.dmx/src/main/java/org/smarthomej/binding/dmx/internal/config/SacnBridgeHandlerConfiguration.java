@@ -28,4 +28,6 @@ public class SacnBridgeHandlerConfiguration {
     public String address = "";
     public String localaddress = "";
     public String refreshmode = "standard";
+    public int universecount = 1;
+    public int syncuniverse = 0;
 }
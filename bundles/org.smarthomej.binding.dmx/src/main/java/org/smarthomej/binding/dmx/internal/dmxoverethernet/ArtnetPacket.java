@@ -13,6 +13,8 @@
  */
 package org.smarthomej.binding.dmx.internal.dmxoverethernet;
 
+import java.nio.ByteBuffer;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.multiverse.Universe;
@@ -35,27 +37,27 @@ public class ArtnetPacket extends DmxOverEthernetPacket {
 
     public ArtnetPacket() {
         payloadSize = ARTNET_MAX_PAYLOAD_SIZE;
-        rawPacket = new byte[ARTNET_MAX_PACKET_LEN];
+        rawPacket = ByteBuffer.allocateDirect(ARTNET_MAX_PACKET_LEN);
 
         /* init Artnet header, total length 38 bytes */
-        rawPacket[0] = 0x41; // packet identifier, 8 bytes
-        rawPacket[1] = 0x72;
-        rawPacket[2] = 0x74;
-        rawPacket[3] = 0x2d;
-        rawPacket[4] = 0x4e;
-        rawPacket[5] = 0x65;
-        rawPacket[6] = 0x74;
-        rawPacket[7] = 0x00;
-        rawPacket[8] = 0x00; // OpCode, 2 bytes
-        rawPacket[9] = 0x50;
-        rawPacket[10] = 0x00; // protocol version, 2 bytes
-        rawPacket[11] = 0x0e;
-        rawPacket[12] = 0x00; // sequence number, 1 byte
-        rawPacket[13] = 0x00; // physical input
-        rawPacket[14] = 0x00; // universe, 15 bit
-        rawPacket[15] = 0x00;
-        rawPacket[16] = 0x00; // payload size, 2 bytes
-        rawPacket[17] = 0x01;
+        rawPacket.put(0, (byte) 0x41); // packet identifier, 8 bytes
+        rawPacket.put(1, (byte) 0x72);
+        rawPacket.put(2, (byte) 0x74);
+        rawPacket.put(3, (byte) 0x2d);
+        rawPacket.put(4, (byte) 0x4e);
+        rawPacket.put(5, (byte) 0x65);
+        rawPacket.put(6, (byte) 0x74);
+        rawPacket.put(7, (byte) 0x00);
+        rawPacket.put(8, (byte) 0x00); // OpCode, 2 bytes
+        rawPacket.put(9, (byte) 0x50);
+        rawPacket.put(10, (byte) 0x00); // protocol version, 2 bytes
+        rawPacket.put(11, (byte) 0x0e);
+        rawPacket.put(12, (byte) 0x00); // sequence number, 1 byte
+        rawPacket.put(13, (byte) 0x00); // physical input
+        rawPacket.put(14, (byte) 0x00); // universe, 15 bit
+        rawPacket.put(15, (byte) 0x00);
+        rawPacket.put(16, (byte) 0x00); // payload size, 2 bytes
+        rawPacket.put(17, (byte) 0x01);
     }
 
     @Override
@@ -68,8 +70,8 @@ public class ArtnetPacket extends DmxOverEthernetPacket {
             logger.warn("coercing payload size to allowed maximum of {} slots", Universe.MAX_UNIVERSE_SIZE);
         }
 
-        rawPacket[16] = (byte) (payloadSize / 256);
-        rawPacket[17] = (byte) (payloadSize % 256);
+        rawPacket.put(16, (byte) (payloadSize / 256));
+        rawPacket.put(17, (byte) (payloadSize % 256));
 
         this.payloadSize = payloadSize;
     }
@@ -80,20 +82,22 @@ public class ArtnetPacket extends DmxOverEthernetPacket {
         this.universeId = universeId;
 
         /* set universe in packet to universe-1 */
-        rawPacket[14] = (byte) (this.universeId % 256);
-        rawPacket[15] = (byte) (this.universeId / 256);
+        rawPacket.put(14, (byte) (this.universeId % 256));
+        rawPacket.put(15, (byte) (this.universeId / 256));
 
         logger.trace("set packet universe to {}", this.universeId);
     }
 
     @Override
     public void setSequence(int sequenceNo) {
-        rawPacket[12] = (byte) (sequenceNo % 256);
+        rawPacket.put(12, (byte) (sequenceNo % 256));
     }
 
     @Override
     public void setPayload(byte[] payload) {
-        System.arraycopy(payload, 0, rawPacket, 18, payloadSize);
+        rawPacket.clear();
+        rawPacket.position(18);
+        rawPacket.put(payload, 0, payloadSize);
     }
 
     @Override
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@link ArtnetSyncPacket} is an ArtSync packet
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public class ArtnetSyncPacket extends DmxOverEthernetSyncPacket {
+    public static final int ARTNET_SYNC_PACKET_LEN = 14;
+
+    /**
+     * default constructor, creates a packet
+     */
+    public ArtnetSyncPacket() {
+        rawPacket = ByteBuffer.allocateDirect(ARTNET_SYNC_PACKET_LEN);
+
+        rawPacket.put(0, (byte) 0x41); // packet identifier, 8 bytes
+        rawPacket.put(1, (byte) 0x72);
+        rawPacket.put(2, (byte) 0x74);
+        rawPacket.put(3, (byte) 0x2d);
+        rawPacket.put(4, (byte) 0x4e);
+        rawPacket.put(5, (byte) 0x65);
+        rawPacket.put(6, (byte) 0x74);
+        rawPacket.put(7, (byte) 0x00);
+        rawPacket.put(8, (byte) 0x00); // OpCode, 2 bytes
+        rawPacket.put(9, (byte) 0x52);
+        rawPacket.put(10, (byte) 0x00); // protocol version, 2 bytes
+        rawPacket.put(11, (byte) 0x0e);
+        rawPacket.put(12, (byte) 0x00); // aux1
+        rawPacket.put(13, (byte) 0x00); // aux2
+    }
+
+    @Override
+    public void setSequence(int sequenceNo) {
+        // ArtSync has no sequence number
+    }
+}
@@ -14,11 +14,13 @@
 package org.smarthomej.binding.dmx.internal.dmxoverethernet;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
-import java.net.SocketException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
@@ -26,47 +28,108 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.DmxBridgeHandler;
+import org.smarthomej.binding.dmx.internal.FrameStatistics;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link DmxOverEthernetHandler} is an abstract class with base functions
  * for DMX over Ethernet Bridges (ArtNet, sACN)
  *
+ * All universes of a bridge are rendered and sent by the same sender job through a single channel. If a
+ * synchronization packet is configured, it is sent after all universes of a frame.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 
 public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     private final Logger logger = LoggerFactory.getLogger(DmxOverEthernetHandler.class);
 
-    protected DmxOverEthernetPacket packetTemplate;
     protected IpNode senderNode = new IpNode();
     protected List<IpNode> receiverNodes = new ArrayList<>();
 
     protected boolean refreshAlways = false;
 
-    DatagramSocket socket = null;
-    private long lastSend = 0;
-    private int repeatCounter = 0;
-    private int sequenceNo = 0;
+    DatagramChannel channel = null;
+    private volatile List<UniverseOutput> outputs = List.of();
+    private volatile SyncOutput syncOutput = null;
+
+    /**
+     * create a packet template for a universe
+     *
+     * @param universeId the DMX universe id
+     * @return the packet template
+     */
+    protected abstract DmxOverEthernetPacket createPacket(int universeId);
+
+    /**
+     * get the receivers of a universe
+     *
+     * @param universeId the DMX universe id
+     * @return list of receivers
+     */
+    protected List<IpNode> getReceiverNodes(int universeId) {
+        return receiverNodes;
+    }
+
+    /**
+     * set the synchronization packet that is sent after the universes of each frame
+     *
+     * @param syncPacket the synchronization packet (null disables synchronization)
+     * @param syncReceiverNodes the receivers of the synchronization packet
+     */
+    protected void setSyncPacket(DmxOverEthernetSyncPacket syncPacket, List<IpNode> syncReceiverNodes) {
+        SyncOutput oldSyncOutput = syncOutput;
+        SyncOutput newSyncOutput = syncPacket == null ? null : new SyncOutput(syncPacket, syncReceiverNodes);
+        if (oldSyncOutput != null && newSyncOutput != null) {
+            // receivers expect consecutive sequence numbers
+            newSyncOutput.sequenceNo = oldSyncOutput.sequenceNo;
+        }
+        syncOutput = newSyncOutput;
+    }
+
+    @Override
+    protected void updateConfiguration() {
+        // packets are re-created because the settings may have changed, but the transmission state of universes
+        // that are still sent is kept (receivers expect consecutive sequence numbers)
+        Map<Integer, UniverseOutput> oldOutputs = new HashMap<>();
+        outputs.forEach(output -> oldOutputs.put(output.packetUniverseId, output));
+        List<UniverseOutput> newOutputs = new ArrayList<>();
+        for (Universe universe : getUniverses()) {
+            UniverseOutput output = new UniverseOutput(universe, createPacket(universe.getUniverseId()),
+                    getReceiverNodes(universe.getUniverseId()));
+            UniverseOutput oldOutput = oldOutputs.get(output.packetUniverseId);
+            if (oldOutput != null) {
+                output.takeStateFrom(oldOutput);
+            }
+            newOutputs.add(output);
+        }
+        outputs = List.copyOf(newOutputs);
+
+        super.updateConfiguration();
+    }
 
     @Override
     protected void openConnection() {
         if (getThing().getStatus() != ThingStatus.ONLINE) {
             try {
-                if (senderNode.getAddress() == null) {
-                    if (senderNode.getPort() == 0) {
-                        socket = new DatagramSocket();
-                        senderNode.setInetAddress(socket.getLocalAddress());
-                        senderNode.setPort(socket.getLocalPort());
+                DatagramChannel channel = DatagramChannel.open();
+                try {
+                    if (senderNode.getAddress() == null) {
+                        channel.bind(new InetSocketAddress(senderNode.getPort()));
                     } else {
-                        socket = new DatagramSocket(senderNode.getPort());
-                        senderNode.setInetAddress(socket.getLocalAddress());
+                        channel.bind(new InetSocketAddress(senderNode.getAddress(), senderNode.getPort()));
                     }
-                } else {
-                    socket = new DatagramSocket(senderNode.getPort(), senderNode.getAddress());
+                } catch (IOException e) {
+                    channel.close();
+                    throw e;
                 }
+                InetSocketAddress localAddress = (InetSocketAddress) channel.getLocalAddress();
+                senderNode.setInetAddress(localAddress.getAddress());
+                senderNode.setPort(localAddress.getPort());
+                this.channel = channel;
                 updateStatus(ThingStatus.ONLINE);
                 logger.debug("opened socket {} in bridge {}", senderNode, this.thing.getUID());
-            } catch (SocketException e) {
+            } catch (IOException e) {
                 logger.debug("could not open socket {} in bridge {}: {}", senderNode, this.thing.getUID(),
                         e.getMessage());
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "opening UDP socket failed");
@@ -76,10 +139,15 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
 
     @Override
     protected void closeConnection() {
-        if (socket != null) {
+        if (channel != null) {
             logger.debug("closing socket {} in bridge {}", senderNode, this.thing.getUID());
-            socket.close();
-            socket = null;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("could not close socket {} in bridge {}: {}", senderNode, this.thing.getUID(),
+                        e.getMessage());
+            }
+            channel = null;
         } else {
             logger.debug("socket was already closed when calling closeConnection in bridge {}", this.thing.getUID());
         }
@@ -89,45 +157,145 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     @Override
     protected void sendDmxData() {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
-            boolean needsSending = false;
             long now = System.currentTimeMillis();
-            universe.calculateBuffer(now);
+            List<UniverseOutput> outputs = this.outputs;
+            long renderStart = System.nanoTime();
+            for (UniverseOutput output : outputs) {
+                output.universe.calculateBuffer(now);
+            }
+            long sendStart = System.nanoTime();
+            statistics.rendered(sendStart - renderStart);
+
+            boolean sentData = false;
+            for (UniverseOutput output : outputs) {
+                if (output.needsSending(now, refreshAlways, statistics)) {
+                    DmxOverEthernetPacket packet = output.packet;
+                    packet.setPayload(output.universe.getFrame(), output.universe.getBufferSize());
+                    packet.setSequence(output.sequenceNo);
+                    if (!send(output.buffer, packet.getPacketLength(), output.receiverNodes)) {
+                        return;
+                    }
+                    output.sequenceNo = (output.sequenceNo + 1) % 256;
+                    sentData = true;
+                }
+            }
+            SyncOutput syncOutput = this.syncOutput;
+            if (sentData && syncOutput != null) {
+                DmxOverEthernetSyncPacket packet = syncOutput.packet;
+                packet.setSequence(syncOutput.sequenceNo);
+                if (send(syncOutput.buffer, packet.getPacketLength(), syncOutput.receiverNodes)) {
+                    syncOutput.sequenceNo = (syncOutput.sequenceNo + 1) % 256;
+                }
+            }
+            statistics.sent(System.nanoTime() - sendStart);
+        } else {
+            openConnection();
+        }
+    }
+
+    /**
+     * send a packet to all receivers
+     *
+     * @param buffer the buffer wrapping the packet
+     * @param length the packet length
+     * @param receivers the receivers
+     * @return true if successful, false if the connection was closed
+     */
+    private boolean send(ByteBuffer buffer, int length, List<IpNode> receivers) {
+        for (IpNode receiverNode : receivers) {
+            logger.trace("sending packet with length {} to {}", length, receiverNode);
+            buffer.limit(length).position(0);
+            try {
+                channel.send(buffer, receiverNode.getSocketAddress());
+            } catch (IOException e) {
+                logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(), e.getMessage());
+                statistics.sendError();
+                closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public DmxOverEthernetHandler(Bridge sacnBridge) {
+        super(sacnBridge);
+    }
+
+    /**
+     * The {@link UniverseOutput} holds the packet and the transmission state of a single universe
+     */
+    private static class UniverseOutput {
+        private final Universe universe;
+        private final int packetUniverseId;
+        private final DmxOverEthernetPacket packet;
+        private final ByteBuffer buffer;
+        private final List<IpNode> receiverNodes;
+
+        private long lastSend = 0;
+        private int repeatCounter = 0;
+        private int sequenceNo = 0;
+
+        public UniverseOutput(Universe universe, DmxOverEthernetPacket packet, List<IpNode> receiverNodes) {
+            this.universe = universe;
+            this.packetUniverseId = universe.getUniverseId();
+            this.packet = packet;
+            this.buffer = packet.getRawPacket();
+            this.receiverNodes = receiverNodes;
+        }
+
+        /**
+         * continue the transmission of a previous output of the same universe
+         *
+         * @param output the previous output
+         */
+        public void takeStateFrom(UniverseOutput output) {
+            lastSend = output.lastSend;
+            repeatCounter = output.repeatCounter;
+            sequenceNo = output.sequenceNo;
+        }
+
+        /**
+         * check if the (already rendered) universe needs to be sent
+         *
+         * @param now the current timestamp
+         * @param refreshAlways true if unchanged data shall be sent in every frame
+         * @param statistics the statistics for recording repeated frames
+         * @return true if the universe needs to be sent
+         */
+        public boolean needsSending(long now, boolean refreshAlways, FrameStatistics statistics) {
+            boolean needsSending = false;
             if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
                 needsSending = true;
                 repeatCounter = 0;
             } else if (now - lastSend > 800) {
                 needsSending = true;
+                statistics.frameRepeated();
             } else if (repeatCounter < 3) {
                 needsSending = true;
                 repeatCounter++;
+                statistics.frameRepeated();
             }
             if (needsSending) {
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
-                packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
-                for (IpNode receiverNode : receiverNodes) {
-                    sendPacket.setAddress(receiverNode.getAddress());
-                    sendPacket.setPort(receiverNode.getPort());
-                    logger.trace("sending packet with length {} to {}", packetTemplate.getPacketLength(),
-                            receiverNode.toString());
-                    try {
-                        socket.send(sendPacket);
-                    } catch (IOException e) {
-                        logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
-                                e.getMessage());
-                        closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
-                    }
-                }
                 lastSend = now;
-                sequenceNo = (sequenceNo + 1) % 256;
             }
-        } else {
-            openConnection();
+            return needsSending;
         }
     }
 
-    public DmxOverEthernetHandler(Bridge sacnBridge) {
-        super(sacnBridge);
+    /**
+     * The {@link SyncOutput} holds the synchronization packet and its transmission state
+     */
+    private static class SyncOutput {
+        private final DmxOverEthernetSyncPacket packet;
+        private final ByteBuffer buffer;
+        private final List<IpNode> receiverNodes;
+
+        private int sequenceNo = 0;
+
+        public SyncOutput(DmxOverEthernetSyncPacket packet, List<IpNode> receiverNodes) {
+            this.packet = packet;
+            this.buffer = packet.getRawPacket();
+            this.receiverNodes = receiverNodes;
+        }
     }
 }
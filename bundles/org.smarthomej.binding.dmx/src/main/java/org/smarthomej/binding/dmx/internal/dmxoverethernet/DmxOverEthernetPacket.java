@@ -13,17 +13,22 @@
  */
 package org.smarthomej.binding.dmx.internal.dmxoverethernet;
 
+import java.nio.ByteBuffer;
+
 /**
  * The {@link DmxOverEthernetPacket} is an abstract class for
  * DMX over Ethernet packets (ArtNet, sACN)
  *
+ * The packet is kept in a direct buffer that is built once and sent as is, only the payload, sequence number and
+ * length fields are updated in place.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 public abstract class DmxOverEthernetPacket {
 
     protected int universeId;
     protected int payloadSize;
-    protected byte[] rawPacket;
+    protected ByteBuffer rawPacket;
 
     /**
      * set payload size
@@ -64,9 +69,9 @@ public abstract class DmxOverEthernetPacket {
     /**
      * get packet for transmission
      *
-     * @return byte array with raw packet data
+     * @return direct buffer with raw packet data (position and limit are set by the sender)
      */
-    public byte[] getRawPacket() {
+    public ByteBuffer getRawPacket() {
         return rawPacket;
     }
 
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@link DmxOverEthernetSyncPacket} is an abstract class for
+ * DMX over Ethernet synchronization packets (ArtSync, E1.31 universe synchronization)
+ *
+ * Receivers hold the DMX data of all synchronized universes until a synchronization packet is received, so all
+ * universes of a frame are output at the same time.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public abstract class DmxOverEthernetSyncPacket {
+
+    protected ByteBuffer rawPacket;
+
+    /**
+     * set sequence number
+     *
+     * @param sequenceNo sequence number (0-255)
+     */
+    public abstract void setSequence(int sequenceNo);
+
+    /**
+     * get packet for transmission
+     *
+     * @return direct buffer with raw packet data (position and limit are set by the sender)
+     */
+    public ByteBuffer getRawPacket() {
+        return rawPacket;
+    }
+
+    /**
+     * get packet length
+     *
+     * @return full packet length
+     */
+    public int getPacketLength() {
+        return rawPacket.capacity();
+    }
+}
@@ -14,6 +14,7 @@
 package org.smarthomej.binding.dmx.internal.dmxoverethernet;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +38,7 @@ public class IpNode {
 
     protected int port = 0;
     protected InetAddress address = null;
+    private InetSocketAddress socketAddress = null;
 
     /**
      * default constructor
@@ -84,6 +86,7 @@ public class IpNode {
             this.address = null;
             logger.warn("could not set address from {}", addrString);
         }
+        socketAddress = null;
     }
 
     /**
@@ -93,6 +96,7 @@ public class IpNode {
      */
     public void setInetAddress(InetAddress address) {
         this.address = address;
+        socketAddress = null;
     }
 
     /**
@@ -102,6 +106,7 @@ public class IpNode {
      */
     public void setPort(int port) {
         this.port = port;
+        socketAddress = null;
     }
 
     /**
@@ -122,6 +127,20 @@ public class IpNode {
         return address;
     }
 
+    /**
+     * get this nodes address and port
+     *
+     * @return address and port as InetSocketAddress
+     */
+    public InetSocketAddress getSocketAddress() {
+        InetSocketAddress socketAddress = this.socketAddress;
+        if (socketAddress == null) {
+            socketAddress = new InetSocketAddress(address, port);
+            this.socketAddress = socketAddress;
+        }
+        return socketAddress;
+    }
+
     public String getAddressString() {
         String addrString = address.getHostAddress();
         return addrString;
@@ -42,68 +42,66 @@ public class SacnPacket extends DmxOverEthernetPacket {
 
     public SacnPacket(UUID uuid) {
         payloadSize = SACN_MAX_PAYLOAD_SIZE;
-        rawPacket = new byte[SACN_MAX_PACKET_LEN];
+        rawPacket = ByteBuffer.allocateDirect(SACN_MAX_PACKET_LEN);
 
         /* init E1.31 root layer, total length 38 bytes */
-        rawPacket[0] = 0x00; // preamble size, 2 bytes
-        rawPacket[1] = 0x10;
-        rawPacket[2] = 0x00; // postamble size, 2 bytes
-        rawPacket[3] = 0x00;
-        rawPacket[4] = 0x41; // packet identifier, 12 bytes
-        rawPacket[5] = 0x53;
-        rawPacket[6] = 0x43;
-        rawPacket[7] = 0x2d;
-        rawPacket[8] = 0x45;
-        rawPacket[9] = 0x31;
-        rawPacket[10] = 0x2e;
-        rawPacket[11] = 0x31;
-        rawPacket[12] = 0x37;
-        rawPacket[13] = 0x00;
-        rawPacket[14] = 0x00;
-        rawPacket[15] = 0x00;
-        rawPacket[16] = 0x72; // flags & length, 2 bytes
-        rawPacket[17] = 0x6e;
-        rawPacket[18] = 0x00; // vector, 4 bytes;
-        rawPacket[19] = 0x00;
-        rawPacket[20] = 0x00;
-        rawPacket[21] = 0x04;
+        rawPacket.put(0, (byte) 0x00); // preamble size, 2 bytes
+        rawPacket.put(1, (byte) 0x10);
+        rawPacket.put(2, (byte) 0x00); // postamble size, 2 bytes
+        rawPacket.put(3, (byte) 0x00);
+        rawPacket.put(4, (byte) 0x41); // packet identifier, 12 bytes
+        rawPacket.put(5, (byte) 0x53);
+        rawPacket.put(6, (byte) 0x43);
+        rawPacket.put(7, (byte) 0x2d);
+        rawPacket.put(8, (byte) 0x45);
+        rawPacket.put(9, (byte) 0x31);
+        rawPacket.put(10, (byte) 0x2e);
+        rawPacket.put(11, (byte) 0x31);
+        rawPacket.put(12, (byte) 0x37);
+        rawPacket.put(13, (byte) 0x00);
+        rawPacket.put(14, (byte) 0x00);
+        rawPacket.put(15, (byte) 0x00);
+        rawPacket.put(16, (byte) 0x72); // flags & length, 2 bytes
+        rawPacket.put(17, (byte) 0x6e);
+        rawPacket.put(18, (byte) 0x00); // vector, 4 bytes;
+        rawPacket.put(19, (byte) 0x00);
+        rawPacket.put(20, (byte) 0x00);
+        rawPacket.put(21, (byte) 0x04);
 
         // UUID 16 bytes
-        ByteBuffer uuidBytes = ByteBuffer.wrap(new byte[16]);
-        uuidBytes.putLong(uuid.getMostSignificantBits());
-        uuidBytes.putLong(uuid.getLeastSignificantBits());
-        System.arraycopy(uuidBytes.array(), 0, rawPacket, 22, 16);
+        rawPacket.putLong(22, uuid.getMostSignificantBits());
+        rawPacket.putLong(30, uuid.getLeastSignificantBits());
 
         /* init sACN/E1.31 framing layer, total length 77 bytes */
-        rawPacket[38] = 0x72; // flags & length, 2 bytes
-        rawPacket[39] = 0x58;
-        rawPacket[40] = 0x00; // vector, 4 bytes;
-        rawPacket[41] = 0x00;
-        rawPacket[42] = 0x00;
-        rawPacket[43] = 0x02;
+        rawPacket.put(38, (byte) 0x72); // flags & length, 2 bytes
+        rawPacket.put(39, (byte) 0x58);
+        rawPacket.put(40, (byte) 0x00); // vector, 4 bytes;
+        rawPacket.put(41, (byte) 0x00);
+        rawPacket.put(42, (byte) 0x00);
+        rawPacket.put(43, (byte) 0x02);
         for (int i = 44; i < 108; i++) { // senderName, 64 bytes
-            rawPacket[i] = 0x00;
+            rawPacket.put(i, (byte) 0x00);
         }
-        rawPacket[108] = 0x64; // priority (default 100), 1 byte
-        rawPacket[109] = 0x00; // reserved, 2 bytes
-        rawPacket[110] = 0x00;
-        rawPacket[111] = 0x00; // sequence number, 1 byte
-        rawPacket[112] = 0x00; // options, 1 byte
-        rawPacket[113] = 0x00; // universe, 2 bytes
-        rawPacket[114] = 0x00;
+        rawPacket.put(108, (byte) 0x64); // priority (default 100), 1 byte
+        rawPacket.put(109, (byte) 0x00); // synchronization address, 2 bytes
+        rawPacket.put(110, (byte) 0x00);
+        rawPacket.put(111, (byte) 0x00); // sequence number, 1 byte
+        rawPacket.put(112, (byte) 0x00); // options, 1 byte
+        rawPacket.put(113, (byte) 0x00); // universe, 2 bytes
+        rawPacket.put(114, (byte) 0x00);
 
         /* sACN/E1.31 DMP layer, total length 11 + channel count */
-        rawPacket[115] = 0x72; // flags & length, 2 bytes
-        rawPacket[116] = 0x0b;
-        rawPacket[117] = 0x02; // vector, 1 byte
-        rawPacket[118] = (byte) 0xa1; // address type, 1 byte
-        rawPacket[119] = 0x00; // start address, 2 bytes
-        rawPacket[120] = 0x00;
-        rawPacket[121] = 0x00; // address increment, 2 bytes
-        rawPacket[122] = 0x01;
-        rawPacket[123] = 0x02; // payload size, 2 bytes (including start code)
-        rawPacket[123] = 0x01;
-        rawPacket[125] = 0x00; // DMX start code, 1 byte
+        rawPacket.put(115, (byte) 0x72); // flags & length, 2 bytes
+        rawPacket.put(116, (byte) 0x0b);
+        rawPacket.put(117, (byte) 0x02); // vector, 1 byte
+        rawPacket.put(118, (byte) 0xa1); // address type, 1 byte
+        rawPacket.put(119, (byte) 0x00); // start address, 2 bytes
+        rawPacket.put(120, (byte) 0x00);
+        rawPacket.put(121, (byte) 0x00); // address increment, 2 bytes
+        rawPacket.put(122, (byte) 0x01);
+        rawPacket.put(123, (byte) 0x02); // payload size, 2 bytes (including start code)
+        rawPacket.put(123, (byte) 0x01);
+        rawPacket.put(125, (byte) 0x00); // DMX start code, 1 byte
     }
 
     @Override
@@ -117,18 +115,18 @@ public class SacnPacket extends DmxOverEthernetPacket {
         }
 
         /* root Layer */
-        rawPacket[16] = (byte) ((28672 + 110 + payloadSize) / 256);
-        rawPacket[17] = (byte) ((28672 + 110 + payloadSize) % 256);
+        rawPacket.put(16, (byte) ((28672 + 110 + payloadSize) / 256));
+        rawPacket.put(17, (byte) ((28672 + 110 + payloadSize) % 256));
 
         /* framing layer */
-        rawPacket[38] = (byte) ((28672 + 88 + payloadSize) / 256);
-        rawPacket[39] = (byte) ((28672 + 88 + payloadSize) % 256);
+        rawPacket.put(38, (byte) ((28672 + 88 + payloadSize) / 256));
+        rawPacket.put(39, (byte) ((28672 + 88 + payloadSize) % 256));
 
         /* DMP layer */
-        rawPacket[115] = (byte) ((28672 + 11 + payloadSize) / 256);
-        rawPacket[116] = (byte) ((28672 + 11 + payloadSize) % 256);
-        rawPacket[123] = (byte) ((payloadSize + 1) / 256);
-        rawPacket[124] = (byte) ((payloadSize + 1) % 256);
+        rawPacket.put(115, (byte) ((28672 + 11 + payloadSize) / 256));
+        rawPacket.put(116, (byte) ((28672 + 11 + payloadSize) % 256));
+        rawPacket.put(123, (byte) ((payloadSize + 1) / 256));
+        rawPacket.put(124, (byte) ((payloadSize + 1) % 256));
 
         this.payloadSize = payloadSize;
     }
@@ -138,20 +136,22 @@ public class SacnPacket extends DmxOverEthernetPacket {
         this.universeId = universeId;
 
         /* set universe in packet */
-        rawPacket[113] = (byte) (this.universeId / 256);
-        rawPacket[114] = (byte) (this.universeId % 256);
+        rawPacket.put(113, (byte) (this.universeId / 256));
+        rawPacket.put(114, (byte) (this.universeId % 256));
 
         /* set sender name in packet */
         String senderName = new String("openHAB DMX binding (sACN) <" + String.format("%05d", this.universeId) + ">");
         byte[] senderNameBytes = senderName.getBytes(StandardCharsets.UTF_8);
-        System.arraycopy(senderNameBytes, 0, rawPacket, 44, senderName.length());
+        rawPacket.clear();
+        rawPacket.position(44);
+        rawPacket.put(senderNameBytes, 0, Math.min(senderNameBytes.length, 64));
 
         logger.trace("set packet universe to {}", this.universeId);
     }
 
     @Override
     public void setSequence(int sequenceNo) {
-        rawPacket[111] = (byte) (sequenceNo % 256);
+        rawPacket.put(111, (byte) (sequenceNo % 256));
     }
 
     /**
@@ -161,13 +161,26 @@ public class SacnPacket extends DmxOverEthernetPacket {
      */
     public void setPriority(int priority) {
         /* observe limits (coerce to range) */
-        rawPacket[108] = (byte) Util.coerceToRange(priority, 0, 200, logger, "packet priority");
+        rawPacket.put(108, (byte) Util.coerceToRange(priority, 0, 200, logger, "packet priority"));
         logger.debug("set packet priority to {}", priority);
     }
 
+    /**
+     * set synchronization universe
+     *
+     * @param syncUniverseId universe of the synchronization packets (0 = no synchronization)
+     */
+    public void setSyncUniverse(int syncUniverseId) {
+        rawPacket.put(109, (byte) (syncUniverseId / 256));
+        rawPacket.put(110, (byte) (syncUniverseId % 256));
+        logger.trace("set packet synchronization universe to {}", syncUniverseId);
+    }
+
     @Override
     public void setPayload(byte[] payload) {
-        System.arraycopy(payload, 0, rawPacket, 126, payloadSize);
+        rawPacket.clear();
+        rawPacket.position(126);
+        rawPacket.put(payload, 0, payloadSize);
     }
 
     @Override
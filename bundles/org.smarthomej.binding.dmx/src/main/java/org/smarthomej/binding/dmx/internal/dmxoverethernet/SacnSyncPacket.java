@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * The {@link SacnSyncPacket} is a sACN/E1.31 universe synchronization packet
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public class SacnSyncPacket extends DmxOverEthernetSyncPacket {
+    public static final int SACN_SYNC_PACKET_LEN = 49;
+
+    /**
+     * default constructor, creates a packet
+     *
+     * @param uuid UUID of the sender (same as in data packets)
+     * @param syncUniverseId the universe used for synchronization
+     */
+    public SacnSyncPacket(UUID uuid, int syncUniverseId) {
+        rawPacket = ByteBuffer.allocateDirect(SACN_SYNC_PACKET_LEN);
+
+        /* init E1.31 root layer, total length 38 bytes */
+        rawPacket.put(0, (byte) 0x00); // preamble size, 2 bytes
+        rawPacket.put(1, (byte) 0x10);
+        rawPacket.put(2, (byte) 0x00); // postamble size, 2 bytes
+        rawPacket.put(3, (byte) 0x00);
+        rawPacket.put(4, (byte) 0x41); // packet identifier, 12 bytes
+        rawPacket.put(5, (byte) 0x53);
+        rawPacket.put(6, (byte) 0x43);
+        rawPacket.put(7, (byte) 0x2d);
+        rawPacket.put(8, (byte) 0x45);
+        rawPacket.put(9, (byte) 0x31);
+        rawPacket.put(10, (byte) 0x2e);
+        rawPacket.put(11, (byte) 0x31);
+        rawPacket.put(12, (byte) 0x37);
+        rawPacket.put(13, (byte) 0x00);
+        rawPacket.put(14, (byte) 0x00);
+        rawPacket.put(15, (byte) 0x00);
+        rawPacket.put(16, (byte) 0x70); // flags & length, 2 bytes
+        rawPacket.put(17, (byte) 0x21);
+        rawPacket.put(18, (byte) 0x00); // vector (extended), 4 bytes;
+        rawPacket.put(19, (byte) 0x00);
+        rawPacket.put(20, (byte) 0x00);
+        rawPacket.put(21, (byte) 0x08);
+
+        // UUID 16 bytes
+        rawPacket.putLong(22, uuid.getMostSignificantBits());
+        rawPacket.putLong(30, uuid.getLeastSignificantBits());
+
+        /* init sACN/E1.31 synchronization layer, total length 11 bytes */
+        rawPacket.put(38, (byte) 0x70); // flags & length, 2 bytes
+        rawPacket.put(39, (byte) 0x0b);
+        rawPacket.put(40, (byte) 0x00); // vector (synchronization), 4 bytes;
+        rawPacket.put(41, (byte) 0x00);
+        rawPacket.put(42, (byte) 0x00);
+        rawPacket.put(43, (byte) 0x01);
+        rawPacket.put(44, (byte) 0x00); // sequence number, 1 byte
+        rawPacket.put(45, (byte) (syncUniverseId / 256)); // synchronization address, 2 bytes
+        rawPacket.put(46, (byte) (syncUniverseId % 256));
+        rawPacket.put(47, (byte) 0x00); // reserved, 2 bytes
+        rawPacket.put(48, (byte) 0x00);
+    }
+
+    @Override
+    public void setSequence(int sequenceNo) {
+        rawPacket.put(44, (byte) (sequenceNo % 256));
+    }
+}
@@ -27,7 +27,9 @@ import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.config.ArtnetBridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetNode;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetPacket;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetSyncPacket;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.IpNode;
 
 /**
@@ -52,7 +54,7 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
         ArtnetBridgeHandlerConfiguration configuration = getConfig().as(ArtnetBridgeHandlerConfiguration.class);
 
         setUniverse(configuration.universe, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
-        packetTemplate.setUniverse(universe.getUniverseId());
+        setAdditionalUniverses(configuration.universecount - 1, MAX_UNIVERSE_ID);
 
         receiverNodes.clear();
         if (configuration.address.isEmpty()) {
@@ -80,17 +82,26 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
 
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
+        setSyncPacket(configuration.sync ? new ArtnetSyncPacket() : null, receiverNodes);
+        logger.debug("ArtSync enabled: {}", configuration.sync);
+
         updateStatus(ThingStatus.UNKNOWN);
         super.updateConfiguration();
 
         logger.debug("updated configuration for ArtNet bridge {}", this.thing.getUID());
     }
 
+    @Override
+    protected DmxOverEthernetPacket createPacket(int universeId) {
+        ArtnetPacket packet = new ArtnetPacket();
+        packet.setUniverse(universeId);
+        return packet;
+    }
+
     @Override
     public void initialize() {
         logger.debug("initializing ArtNet bridge {}", this.thing.getUID());
 
-        packetTemplate = new ArtnetPacket();
         updateConfiguration();
     }
 }
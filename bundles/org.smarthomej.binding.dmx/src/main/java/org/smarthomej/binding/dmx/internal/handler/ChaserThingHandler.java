@@ -36,8 +36,8 @@ import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.DmxBindingConstants.ListenerType;
 import org.smarthomej.binding.dmx.internal.DmxBridgeHandler;
 import org.smarthomej.binding.dmx.internal.DmxThingHandler;
-import org.smarthomej.binding.dmx.internal.ValueSet;
-import org.smarthomej.binding.dmx.internal.action.FadeAction;
+import org.smarthomej.binding.dmx.internal.action.ChaseTimeline;
+import org.smarthomej.binding.dmx.internal.action.FadeCurve;
 import org.smarthomej.binding.dmx.internal.action.ResumeAction;
 import org.smarthomej.binding.dmx.internal.config.ChaserThingHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.multiverse.BaseDmxChannel;
@@ -56,7 +56,8 @@ public class ChaserThingHandler extends DmxThingHandler {
     private final Logger logger = LoggerFactory.getLogger(ChaserThingHandler.class);
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private List<ValueSet> values = new ArrayList<>();
+    private ChaseTimeline chase = ChaseTimeline.EMPTY;
+    private FadeCurve fadeCurve = FadeCurve.LINEAR;
 
     private boolean resumeAfter = false;
     private OnOffType isRunning = OnOffType.OFF;
@@ -78,10 +79,7 @@ public class ChaserThingHandler extends DmxThingHandler {
                             } else {
                                 channel.clearAction();
                             }
-                            for (ValueSet value : values) {
-                                channel.addChannelAction(new FadeAction(value.getFadeTime(),
-                                        value.getValue(channelCounter), value.getHoldTime()));
-                            }
+                            chase.addActions(channel, channelCounter);
                             if (resumeAfter) {
                                 channel.addChannelAction(new ResumeAction());
                             }
@@ -106,9 +104,9 @@ public class ChaserThingHandler extends DmxThingHandler {
                 break;
             case CHANNEL_CONTROL:
                 if (command instanceof StringType) {
-                    List<ValueSet> newValues = ValueSet.parseChaseConfig(((StringType) command).toString());
-                    if (!newValues.isEmpty()) {
-                        values = newValues;
+                    ChaseTimeline newChase = ChaseTimeline.fromString(((StringType) command).toString(), fadeCurve);
+                    if (!newChase.isEmpty()) {
+                        chase = newChase;
                         logger.debug("updated chase config in {}", this.thing.getUID());
                     } else {
                         logger.debug("could not update chase config in {}, malformed: {}", this.thing.getUID(),
@@ -162,9 +160,18 @@ public class ChaserThingHandler extends DmxThingHandler {
             dmxHandlerStatus = ThingStatusDetail.CONFIGURATION_ERROR;
             return;
         }
+        try {
+            fadeCurve = FadeCurve.fromString(configuration.fadecurve);
+        } catch (IllegalArgumentException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                    "unknown fade curve " + configuration.fadecurve);
+            dmxHandlerStatus = ThingStatusDetail.CONFIGURATION_ERROR;
+            return;
+        }
+
         if (!configuration.steps.isEmpty()) {
-            values = ValueSet.parseChaseConfig(configuration.steps);
-            if (!values.isEmpty()) {
+            chase = ChaseTimeline.fromString(configuration.steps, fadeCurve);
+            if (!chase.isEmpty()) {
                 if (bridge.getStatus().equals(ThingStatus.ONLINE)) {
                     updateStatus(ThingStatus.ONLINE);
                     dmxHandlerStatus = ThingStatusDetail.NONE;
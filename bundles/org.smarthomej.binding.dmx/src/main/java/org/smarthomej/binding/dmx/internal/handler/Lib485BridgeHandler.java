@@ -16,11 +16,15 @@ package org.smarthomej.binding.dmx.internal.handler;
 import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.THING_TYPE_LIB485_BRIDGE;
 
 import java.io.IOException;
-import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
@@ -46,8 +50,14 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
     public static final int MAX_UNIVERSE_ID = 0;
     public static final int DEFAULT_PORT = 9020;
 
+    static final long CONNECT_TIMEOUT = 2000; // in ms
+    static final long CONNECT_POLL_INTERVAL = 50; // in ms
+    static final long MIN_RECONNECT_DELAY = 500; // in ms
+    static final long MAX_RECONNECT_DELAY = 60000; // in ms
+    static final long STALL_TIMEOUT = 5000; // in ms
+
     private final Logger logger = LoggerFactory.getLogger(Lib485BridgeHandler.class);
-    private final Map<IpNode, Socket> receiverNodes = new HashMap<>();
+    private volatile List<Receiver> receivers = List.of();
 
     public Lib485BridgeHandler(Bridge lib485Bridge) {
         super(lib485Bridge);
@@ -55,96 +65,72 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
 
     @Override
     protected void openConnection() {
-        if (getThing().getStatus() != ThingStatus.ONLINE) {
-            for (IpNode receiverNode : receiverNodes.keySet()) {
-                Socket socket = receiverNodes.get(receiverNode);
-                if (socket == null) {
-                    try {
-                        socket = new Socket(receiverNode.getAddressString(), receiverNode.getPort());
-                    } catch (IOException e) {
-                        logger.debug("Could not connect to {} in {}: {}", receiverNode, this.thing.getUID(),
-                                e.getMessage());
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
-                                "could not connect to " + receiverNode.toString());
-                        return;
-                    }
-                }
-
-                if (socket.isConnected()) {
-                    receiverNodes.put(receiverNode, socket);
-                } else {
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
-                    receiverNodes.put(receiverNode, null);
-                    return;
-                }
-            }
-            updateStatus(ThingStatus.ONLINE);
-        }
+        receivers.forEach(Receiver::start);
     }
 
     @Override
     protected void closeConnection() {
-        for (IpNode receiverNode : receiverNodes.keySet()) {
-            Socket socket = receiverNodes.get(receiverNode);
-            if ((socket != null) && (!socket.isClosed())) {
-                try {
-                    socket.close();
-                } catch (IOException e) {
-                    logger.warn("Could not close socket {} in {}: {}", receiverNode, this.thing.getUID(),
-                            e.getMessage());
-                }
-            }
-            receiverNodes.put(receiverNode, null);
-        }
+        receivers.forEach(Receiver::stop);
     }
 
     @Override
     protected void sendDmxData() {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
             long now = System.currentTimeMillis();
+            long renderStart = System.nanoTime();
             universe.calculateBuffer(now);
-            for (IpNode receiverNode : receiverNodes.keySet()) {
-                Socket socket = receiverNodes.get(receiverNode);
-                if (socket != null && socket.isConnected()) {
-                    try {
-                        socket.getOutputStream().write(universe.getBuffer());
-                    } catch (IOException e) {
-                        logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
-                                e.getMessage());
-                        closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
-                        return;
-                    }
-                } else {
-                    closeConnection(ThingStatusDetail.NONE, "reconnect");
-                    return;
-                }
+            long sendStart = System.nanoTime();
+            statistics.rendered(sendStart - renderStart);
+
+            byte[] frame = universe.getFrame();
+            int frameSize = universe.getBufferSize();
+            for (Receiver receiver : receivers) {
+                receiver.send(frame, frameSize, now);
             }
+            statistics.sent(System.nanoTime() - sendStart);
         } else {
             openConnection();
         }
     }
 
+    /**
+     * update the bridge status, the bridge is online as long as at least one receiver is connected
+     */
+    private void updateReceiverStatus() {
+        List<Receiver> receivers = this.receivers;
+        long connected = receivers.stream().filter(Receiver::isConnected).count();
+        if (connected > 0) {
+            updateStatus(ThingStatus.ONLINE);
+        } else if (!receivers.isEmpty()) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "could not connect to " + receivers.get(0).receiverNode);
+        }
+    }
+
     @Override
     protected void updateConfiguration() {
         Lib485BridgeHandlerConfiguration configuration = getConfig().as(Lib485BridgeHandlerConfiguration.class);
 
         universe = new Universe(MIN_UNIVERSE_ID);
 
-        receiverNodes.clear();
+        closeConnection();
+        List<Receiver> receivers = new ArrayList<>();
         if (configuration.address.isEmpty()) {
-            receiverNodes.put(new IpNode("localhost:9020"), null);
-            logger.debug("sending to {} for {}", receiverNodes, this.thing.getUID());
+            receivers.add(new Receiver(new IpNode("localhost:9020")));
+            logger.debug("sending to {} for {}", receivers, this.thing.getUID());
         } else {
             try {
                 for (IpNode receiverNode : IpNode.fromString(configuration.address, DEFAULT_PORT)) {
-                    receiverNodes.put(receiverNode, null);
+                    receivers.add(new Receiver(receiverNode));
                     logger.debug("sending to {} for {}", receiverNode, this.thing.getUID());
                 }
             } catch (IllegalArgumentException e) {
+                this.receivers = List.of();
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
                 return;
             }
         }
+        this.receivers = List.copyOf(receivers);
         super.updateConfiguration();
 
         updateStatus(ThingStatus.UNKNOWN, ThingStatusDetail.NONE);
@@ -158,4 +144,229 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
 
         updateConfiguration();
     }
+
+    /**
+     * get the receivers of this bridge (only used for tests)
+     *
+     * @return the current list of receivers
+     */
+    List<Receiver> getReceivers() {
+        return receivers;
+    }
+
+    /**
+     * The {@link Receiver} holds the non-blocking connection to a single Lib485 instance
+     *
+     * Connecting is non-blocking, too: the scheduler only starts the connection attempt and polls for its completion,
+     * failed connections are retried with an exponential backoff. Each receiver holds at most one frame: a new frame
+     * is only accepted if the previous one has been completely written, otherwise it is dropped (the next refresh
+     * carries newer data anyway). A receiver that does not accept data for {@link #STALL_TIMEOUT} is disconnected, so
+     * a single bad receiver never delays the others.
+     */
+    class Receiver {
+        private final IpNode receiverNode;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(Universe.MAX_UNIVERSE_SIZE);
+
+        private SocketChannel channel;
+        private SocketChannel pendingChannel;
+        private ScheduledFuture<?> connectJob;
+        private boolean running = false;
+        private int generation = 0;
+        private long reconnectDelay = MIN_RECONNECT_DELAY;
+        private long lastProgress = 0;
+        private long droppedFrames = 0;
+
+        public Receiver(IpNode receiverNode) {
+            this.receiverNode = receiverNode;
+            buffer.limit(0);
+        }
+
+        /**
+         * start connecting (does nothing if already running)
+         */
+        public synchronized void start() {
+            if (!running) {
+                running = true;
+                reconnectDelay = MIN_RECONNECT_DELAY;
+                scheduleConnect(0);
+            }
+        }
+
+        /**
+         * stop any pending reconnect and close the connection
+         */
+        public synchronized void stop() {
+            running = false;
+            generation++;
+            ScheduledFuture<?> connectJob = this.connectJob;
+            if (connectJob != null) {
+                connectJob.cancel(false);
+                this.connectJob = null;
+            }
+            closeQuietly(pendingChannel);
+            pendingChannel = null;
+            closeChannel();
+        }
+
+        public synchronized boolean isConnected() {
+            return channel != null;
+        }
+
+        /**
+         * get the delay before the next connection attempt
+         *
+         * @return the delay in ms
+         */
+        synchronized long getReconnectDelay() {
+            return reconnectDelay;
+        }
+
+        private void scheduleConnect(long delay) {
+            int generation = this.generation;
+            connectJob = scheduler.schedule(() -> connect(generation), delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void connect(int generation) {
+            SocketChannel newChannel = null;
+            try {
+                newChannel = SocketChannel.open();
+                newChannel.configureBlocking(false);
+                boolean connected = newChannel.connect(receiverNode.getSocketAddress());
+                connectProgress(generation, newChannel, connected, System.currentTimeMillis() + CONNECT_TIMEOUT);
+            } catch (IOException | UnresolvedAddressException e) {
+                connectFailed(generation, newChannel, e.getMessage());
+            }
+        }
+
+        private void finishConnect(int generation, SocketChannel newChannel, long deadline) {
+            try {
+                boolean connected = newChannel.finishConnect();
+                if (!connected && System.currentTimeMillis() >= deadline) {
+                    throw new IOException("connection timed out");
+                }
+                connectProgress(generation, newChannel, connected, deadline);
+            } catch (IOException e) {
+                connectFailed(generation, newChannel, e.getMessage());
+            }
+        }
+
+        private void connectProgress(int generation, SocketChannel newChannel, boolean connected, long deadline) {
+            synchronized (this) {
+                if (!running || generation != this.generation) {
+                    closeQuietly(newChannel);
+                    return;
+                }
+                if (!connected) {
+                    pendingChannel = newChannel;
+                    connectJob = scheduler.schedule(() -> finishConnect(generation, newChannel, deadline),
+                            CONNECT_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                logger.debug("connected to {} in {}", receiverNode, thing.getUID());
+                pendingChannel = null;
+                connectJob = null;
+                channel = newChannel;
+                buffer.clear().limit(0);
+                lastProgress = System.currentTimeMillis();
+                reconnectDelay = MIN_RECONNECT_DELAY;
+            }
+            updateReceiverStatus();
+        }
+
+        private void connectFailed(int generation, SocketChannel newChannel, String error) {
+            closeQuietly(newChannel);
+            synchronized (this) {
+                if (!running || generation != this.generation) {
+                    return;
+                }
+                pendingChannel = null;
+                connectJob = null;
+                logger.debug("Could not connect to {} in {}: {}, retrying in {} ms", receiverNode, thing.getUID(),
+                        error, reconnectDelay);
+                scheduleReconnect();
+            }
+            updateReceiverStatus();
+        }
+
+        /**
+         * send a frame to this receiver (never blocks)
+         *
+         * @param frame the frame data
+         * @param frameSize the number of bytes to send
+         * @param now the current time
+         */
+        public void send(byte[] frame, int frameSize, long now) {
+            boolean failed = false;
+            synchronized (this) {
+                SocketChannel channel = this.channel;
+                if (channel == null) {
+                    return;
+                }
+                try {
+                    if (buffer.hasRemaining() && channel.write(buffer) > 0) {
+                        lastProgress = now;
+                    }
+                    if (buffer.hasRemaining()) {
+                        droppedFrames++;
+                        statistics.frameDropped();
+                        if (now - lastProgress > STALL_TIMEOUT) {
+                            throw new IOException("receiver stalled, dropped " + droppedFrames + " frames");
+                        }
+                        logger.trace("receiver {} in {} is busy, dropping frame", receiverNode, thing.getUID());
+                    } else {
+                        buffer.clear();
+                        buffer.put(frame, 0, frameSize).flip();
+                        channel.write(buffer);
+                        lastProgress = now;
+                    }
+                } catch (IOException e) {
+                    logger.debug("Could not send to {} in {}: {}", receiverNode, thing.getUID(), e.getMessage());
+                    statistics.sendError();
+                    closeChannel();
+                    scheduleReconnect();
+                    failed = true;
+                }
+            }
+            if (failed) {
+                updateReceiverStatus();
+            }
+        }
+
+        private void scheduleReconnect() {
+            if (running && connectJob == null) {
+                scheduleConnect(reconnectDelay);
+                reconnectDelay = Math.min(2 * reconnectDelay, MAX_RECONNECT_DELAY);
+            }
+        }
+
+        private void closeChannel() {
+            SocketChannel channel = this.channel;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close socket {} in {}: {}", receiverNode, thing.getUID(), e.getMessage());
+                }
+                this.channel = null;
+            }
+            buffer.clear().limit(0);
+            droppedFrames = 0;
+        }
+
+        private void closeQuietly(SocketChannel channel) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    logger.debug("Could not close pending connection to {} in {}: {}", receiverNode, thing.getUID(),
+                            e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return receiverNode.toString();
+        }
+    }
 }
@@ -15,8 +15,8 @@ package org.smarthomej.binding.dmx.internal.handler;
 
 import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.THING_TYPE_SACN_BRIDGE;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -26,11 +26,14 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingTypeUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.dmx.internal.Util;
 import org.smarthomej.binding.dmx.internal.config.SacnBridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.IpNode;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.SacnNode;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.SacnPacket;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.SacnSyncPacket;
 
 /**
  * The {@link SacnBridgeHandler} is responsible for handling the communication
@@ -45,6 +48,8 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
 
     private final Logger logger = LoggerFactory.getLogger(SacnBridgeHandler.class);
     private final UUID senderUUID;
+    private boolean multicast = true;
+    private int syncUniverseId = 0;
 
     public SacnBridgeHandler(Bridge sacnBridge) {
         super(sacnBridge);
@@ -56,10 +61,11 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         SacnBridgeHandlerConfiguration configuration = getConfig().as(SacnBridgeHandlerConfiguration.class);
 
         setUniverse(configuration.universe, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
-        packetTemplate.setUniverse(universe.getUniverseId());
+        setAdditionalUniverses(configuration.universecount - 1, MAX_UNIVERSE_ID);
 
         receiverNodes.clear();
-        if ((configuration.mode.equals("unicast"))) {
+        multicast = !configuration.mode.equals("unicast");
+        if (!multicast) {
             if (configuration.address.isEmpty()) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                         "Could not initialize unicast sender (address not set)");
@@ -74,9 +80,7 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
                 }
             }
         } else {
-            receiverNodes = new ArrayList<>();
-            receiverNodes.add(SacnNode.getBroadcastNode(universe.getUniverseId()));
-            logger.debug("using multicast mode to {} for {}", receiverNodes, this.thing.getUID());
+            logger.debug("using multicast mode for {}", this.thing.getUID());
         }
 
         if (!configuration.localaddress.isEmpty()) {
@@ -87,17 +91,40 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         refreshAlways = configuration.refreshmode.equals("always");
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
+        if (configuration.syncuniverse > 0) {
+            syncUniverseId = Util.coerceToRange(configuration.syncuniverse, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID, logger,
+                    "syncuniverse");
+            setSyncPacket(new SacnSyncPacket(senderUUID, syncUniverseId),
+                    multicast ? List.of(SacnNode.getBroadcastNode(syncUniverseId)) : receiverNodes);
+        } else {
+            syncUniverseId = 0;
+            setSyncPacket(null, List.of());
+        }
+        logger.debug("synchronization universe set to {}", syncUniverseId);
+
         updateStatus(ThingStatus.UNKNOWN);
         super.updateConfiguration();
 
         logger.debug("updated configuration for sACN/E1.31 bridge {}", this.thing.getUID());
     }
 
+    @Override
+    protected DmxOverEthernetPacket createPacket(int universeId) {
+        SacnPacket packet = new SacnPacket(senderUUID);
+        packet.setUniverse(universeId);
+        packet.setSyncUniverse(syncUniverseId);
+        return packet;
+    }
+
+    @Override
+    protected List<IpNode> getReceiverNodes(int universeId) {
+        return multicast ? List.of(SacnNode.getBroadcastNode(universeId)) : receiverNodes;
+    }
+
     @Override
     public void initialize() {
         logger.debug("initializing sACN/E1.31 bridge {}", this.thing.getUID());
 
-        packetTemplate = new SacnPacket(senderUUID);
         updateConfiguration();
     }
 }
@@ -95,6 +95,15 @@ public class DmxChannel extends BaseDmxChannel {
         }
     }
 
+    /**
+     * get the things registered to this channel
+     *
+     * @return list of things
+     */
+    public List<Thing> getRegisteredThings() {
+        return List.copyOf(registeredThings);
+    }
+
     /**
      * check if DMX Channel has any registered objects
      *
@@ -253,7 +262,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-255
      */
-    public synchronized Integer getNewValue(long calculationTime) {
+    public synchronized int getNewValue(long calculationTime) {
         return (getNewHiResValue(calculationTime) >> 8);
     }
 
@@ -264,7 +273,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-65535
      */
-    public synchronized Integer getNewHiResValue(long calculationTime) {
+    public synchronized int getNewHiResValue(long calculationTime) {
         if (hasRunningActions()) {
             logger.trace("checking actions, list is {}", actions);
             BaseAction action = actions.get(0);
@@ -13,10 +13,9 @@
  */
 package org.smarthomej.binding.dmx.internal.multiverse;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.openhab.core.thing.Thing;
 import org.slf4j.Logger;
@@ -26,6 +25,10 @@ import org.slf4j.LoggerFactory;
  * The {@link Universe} represents a single DMX universes with all its channels and provides a buffer for sending by the
  * bridges
  *
+ * The universe is rendered into two alternating frames: {@link #calculateBuffer(long)} writes the back frame and
+ * publishes it as the new front frame, which is read by the senders without locking. Registering and unregistering
+ * channels replaces the channel array, so rendering never needs to lock the universe.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 public class Universe {
@@ -33,20 +36,22 @@ public class Universe {
     public static final int MAX_UNIVERSE_SIZE = 512;
     public static final int DEFAULT_REFRESH_TIME = 1000;
 
+    private static final byte[] CIE1931_CURVE = createDimCurveLookupTable();
+
     private final Logger logger = LoggerFactory.getLogger(Universe.class);
-    private final ReentrantLock universeLock = new ReentrantLock();
 
     private int universeId;
-    private int bufferSize = MIN_UNIVERSE_SIZE;
+    private volatile int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
-    private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
+    private byte[] backFrame = new byte[MAX_UNIVERSE_SIZE];
+    private volatile byte[] frontFrame = new byte[MAX_UNIVERSE_SIZE];
 
-    private long bufferChanged;
+    private volatile long bufferChanged;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
-    private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private volatile DmxChannel[] channels = new DmxChannel[0];
+    // indexed by DMX channel id
+    private volatile boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
 
     /**
      * universe constructor
@@ -55,7 +60,6 @@ public class Universe {
      */
     public Universe(int universeId) {
         this.universeId = universeId;
-        fillDimCurveLookupTable();
     }
 
     /**
@@ -93,21 +97,25 @@ public class Universe {
      * @param thing the thing to unregister
      */
     public synchronized void unregisterChannels(Thing thing) {
-        universeLock.lock();
-        try {
-            Iterator<DmxChannel> channelIterator = channels.iterator();
-
-            while (channelIterator.hasNext()) {
-                DmxChannel channel = channelIterator.next();
-                channel.unregisterThing(thing);
-                if (!channel.hasRegisteredThings()) {
-                    channelIterator.remove();
-                    logger.trace("Removing channel {}, no more things", channel);
-                }
+        DmxChannel[] remainingChannels = Arrays.stream(channels).filter(channel -> {
+            channel.unregisterThing(thing);
+            if (!channel.hasRegisteredThings()) {
+                logger.trace("Removing channel {}, no more things", channel);
+                return false;
             }
-        } finally {
-            universeLock.unlock();
-        }
+            return true;
+        }).toArray(DmxChannel[]::new);
+        channels = remainingChannels;
+    }
+
+    /**
+     * get all things that registered channels in this universe
+     *
+     * @return set of things
+     */
+    public synchronized Set<Thing> getRegisteredThings() {
+        return Arrays.stream(channels).flatMap(channel -> channel.getRegisteredThings().stream())
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -117,14 +125,11 @@ public class Universe {
      */
     private void addChannel(DmxChannel channel) throws IllegalArgumentException {
         if (universeId == channel.getUniverseId()) {
-            universeLock.lock();
-            try {
-                channels.add(channel);
-                if (channel.getChannelId() > bufferSize) {
-                    bufferSize = channel.getChannelId();
-                }
-            } finally {
-                universeLock.unlock();
+            DmxChannel[] newChannels = Arrays.copyOf(channels, channels.length + 1);
+            newChannels[channels.length] = channel;
+            channels = newChannels;
+            if (channel.getChannelId() > bufferSize) {
+                bufferSize = channel.getChannelId();
             }
         } else {
             throw new IllegalArgumentException(
@@ -164,7 +169,7 @@ public class Universe {
      *
      * @param universeId new universe id
      */
-    public void rename(int universeId) {
+    public synchronized void rename(int universeId) {
         logger.debug("Renaming universe {} to {}", this.universeId, universeId);
         this.universeId = universeId;
         for (DmxChannel channel : channels) {
@@ -175,47 +180,55 @@ public class Universe {
     /**
      * calculate this universe buffer (run all channel actions) for a given time
      *
+     * Rendering is not thread-safe, this method shall only be called from the thread sending this universe.
+     *
      * @param time the timestamp used for calculation
      */
     public void calculateBuffer(long time) {
-        universeLock.lock();
-        try {
-            for (DmxChannel channel : channels) {
-                logger.trace("calculating new value for {}", channel);
-                int channelId = channel.getChannelId();
-                int vx = channel.getNewHiResValue(time);
-                int value;
-                if (applyCurve.contains(channelId)) {
-                    value = cie1931Curve[vx];
-                } else {
-                    value = vx >> 8;
-                }
-                if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
-                    bufferChanged = time;
-                }
+        byte[] frame = backFrame;
+        byte[] previousFrame = frontFrame;
+        boolean[] applyCurve = this.applyCurve;
+        boolean changed = false;
+
+        // channels without a DmxChannel keep their value
+        System.arraycopy(previousFrame, 0, frame, 0, MAX_UNIVERSE_SIZE);
+        for (DmxChannel channel : channels) {
+            int channelId = channel.getChannelId();
+            int vx = channel.getNewHiResValue(time);
+            byte value = applyCurve[channelId] ? CIE1931_CURVE[vx] : (byte) (vx >> 8);
+            if (frame[channelId - 1] != value) {
+                frame[channelId - 1] = value;
+                changed = true;
             }
-        } finally {
-            universeLock.unlock();
         }
+
+        backFrame = previousFrame;
+        frontFrame = frame;
+        if (changed) {
+            bufferChanged = time;
+        }
+    }
+
+    /**
+     * get the current frame
+     *
+     * The returned array is not copied and has a length of {@link #MAX_UNIVERSE_SIZE}, only the first
+     * {@link #getBufferSize()} bytes are used. It is valid until the next but one call of
+     * {@link #calculateBuffer(long)} and must not be modified.
+     *
+     * @return byte array with channel values
+     */
+    public byte[] getFrame() {
+        return frontFrame;
     }
 
     /**
-     * get the full universe buffer
+     * get a copy of the full universe buffer
      *
      * @return byte array with channel values
      */
     public byte[] getBuffer() {
-        byte[] b = new byte[bufferSize];
-        universeLock.lock();
-        try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
-        } finally {
-            universeLock.unlock();
-        }
-        return b;
+        return Arrays.copyOf(frontFrame, bufferSize);
     }
 
     /**
@@ -224,29 +237,34 @@ public class Universe {
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
+        boolean[] newApplyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
         for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+            if (channel.getUniverseId() == universeId) {
+                newApplyCurve[channel.getChannelId()] = true;
+            }
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        applyCurve = newApplyCurve;
+        logger.debug("applying dim curve in universe {} to channels {}", universeId, listString);
     }
 
     /**
      * calculate dim curve table for fast lookup
      */
-    private void fillDimCurveLookupTable() {
+    private static byte[] createDimCurveLookupTable() {
         // formula taken from: Poynton, C.A.: “Gamma” and its Disguises: The Nonlinear Mappings of
         // Intensity in Perception, CRTs, Film and Video, SMPTE Journal Dec. 1993, pp. 1099 - 1108
         // inverted
         int maxValue = DmxChannel.MAX_VALUE << 8;
+        byte[] curve = new byte[maxValue + 1];
         for (int i = 0; i <= maxValue; i++) {
             float lLn = ((float) i) / maxValue;
             if (lLn <= 0.08) {
-                cie1931Curve[i] = (short) Math.round(DmxChannel.MAX_VALUE * lLn / 9.033);
+                curve[i] = (byte) Math.round(DmxChannel.MAX_VALUE * lLn / 9.033);
             } else {
-                cie1931Curve[i] = (short) Math.round(DmxChannel.MAX_VALUE * Math.pow((lLn + 0.16) / 1.16, 3));
+                curve[i] = (byte) Math.round(DmxChannel.MAX_VALUE * Math.pow((lLn + 0.16) / 1.16, 3));
             }
         }
+        return curve;
     }
 
     /**
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.dmx.internal.action.ChaseTimeline;
+import org.smarthomej.binding.dmx.internal.action.FadeCurve;
+import org.smarthomej.binding.dmx.internal.action.FadeTimeline;
+
+/**
+ * Tests cases FadeTimeline and ChaseTimeline
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public class FadeTimelineTest {
+
+    @Test
+    public void linearFade() {
+        FadeTimeline timeline = FadeTimeline.of(1000, FadeCurve.LINEAR);
+
+        assertThat(timeline.getValue(0, 51200, 0), is(0));
+        assertThat(timeline.getValue(0, 51200, 250), is(12800));
+        assertThat(timeline.getValue(0, 51200, 500), is(25600));
+        assertThat(timeline.getValue(51200, 0, 500), is(25600));
+        assertThat(timeline.getValue(0, 51200, 1000), is(51200));
+        assertThat(timeline.getValue(0, 51200, 5000), is(51200));
+    }
+
+    @Test
+    public void immediateFade() {
+        assertThat(FadeTimeline.of(0, FadeCurve.SCURVE), is(sameInstance(FadeTimeline.IMMEDIATE)));
+        assertThat(FadeTimeline.of(-5, FadeCurve.LINEAR), is(sameInstance(FadeTimeline.IMMEDIATE)));
+        assertThat(FadeTimeline.IMMEDIATE.getValue(0, 51200, 0), is(51200));
+    }
+
+    @Test
+    public void timelinesAreShared() {
+        assertThat(FadeTimeline.of(1234, FadeCurve.CIE), is(sameInstance(FadeTimeline.of(1234, FadeCurve.CIE))));
+        assertThat(FadeTimeline.of(1234, FadeCurve.CIE),
+                is(not(sameInstance(FadeTimeline.of(1234, FadeCurve.LINEAR)))));
+    }
+
+    @Test
+    public void curves() {
+        for (FadeCurve curve : FadeCurve.values()) {
+            assertThat(curve.apply(0), is(0));
+            assertThat(curve.apply(FadeCurve.ONE), is(FadeCurve.ONE));
+            int previous = 0;
+            for (int progress = 0; progress <= FadeCurve.ONE; progress += 64) {
+                int value = curve.apply(progress);
+                assertTrue(value >= previous);
+                previous = value;
+            }
+        }
+        assertThat(FadeCurve.SCURVE.apply(FadeCurve.ONE / 2), is(FadeCurve.ONE / 2));
+        assertTrue(FadeCurve.SCURVE.apply(FadeCurve.ONE / 4) < FadeCurve.ONE / 4);
+        // 50% lightness is about 18% luminance
+        assertThat(FadeCurve.CIE.apply(FadeCurve.ONE / 2), is(12071));
+        assertThat(FadeCurve.fromString(" scurve"), is(FadeCurve.SCURVE));
+    }
+
+    @Test
+    public void chaseIsCached() {
+        ChaseTimeline chase = ChaseTimeline.fromString("100:100,200:1000|0:0:-1", FadeCurve.LINEAR);
+        assertThat(chase.size(), is(2));
+        assertThat(ChaseTimeline.fromString("100:100,200:1000|0:0:-1", FadeCurve.LINEAR), is(sameInstance(chase)));
+        assertThat(ChaseTimeline.fromString("100:100,200:1000|0:0:-1", FadeCurve.CIE), is(not(sameInstance(chase))));
+        assertThat(ChaseTimeline.fromString("100:100,200:1000|malformed", FadeCurve.LINEAR).isEmpty(), is(true));
+    }
+}
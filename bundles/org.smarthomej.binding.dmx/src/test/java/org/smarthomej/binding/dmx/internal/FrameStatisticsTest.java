@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases FrameStatistics
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public class FrameStatisticsTest {
+
+    @Test
+    public void histogramBuckets() {
+        long previousUpperBound = -1;
+        for (long value = 0; value < 100000; value++) {
+            int index = FrameStatistics.bucketIndex(value);
+            long upperBound = FrameStatistics.bucketUpperBound(index);
+            assertTrue(upperBound >= value);
+            // values are recorded with about 3% precision
+            assertTrue(upperBound - value <= Math.max(1, value / 32));
+            assertTrue(upperBound >= previousUpperBound);
+            previousUpperBound = upperBound;
+        }
+    }
+
+    @Test
+    public void frameStatistics() {
+        FrameStatistics statistics = new FrameStatistics();
+        statistics.reset(10);
+
+        long start = System.nanoTime();
+        // 100 frames at 10 ms, one frame is 5 ms late
+        for (int i = 0; i < 100; i++) {
+            statistics.frameStarted(start + i * 10_000_000L + (i == 50 ? 5_000_000L : 0));
+            statistics.rendered(100_000);
+            statistics.sent(200_000);
+        }
+        statistics.frameDropped();
+        statistics.frameRepeated();
+        statistics.frameRepeated();
+        statistics.sendError();
+
+        FrameStatistics.Snapshot snapshot = statistics.getAndReset();
+        assertThat(snapshot.renderTime, is(0.1));
+        assertThat(snapshot.sendTime, is(0.2));
+        assertThat(snapshot.jitterMedian, is(0.0));
+        assertTrue(snapshot.jitterMax >= 5.0 && snapshot.jitterMax < 5.2);
+        assertThat(snapshot.droppedFrames, is(1L));
+        assertThat(snapshot.repeatedFrames, is(2L));
+        assertThat(snapshot.sendErrors, is(1L));
+
+        snapshot = statistics.getAndReset();
+        assertThat(snapshot.fps, is(0.0));
+        assertThat(snapshot.jitterMax, is(0.0));
+        assertThat(snapshot.sendErrors, is(0L));
+    }
+
+    @Test
+    public void pauseIsNotRecordedAsJitter() {
+        FrameStatistics statistics = new FrameStatistics();
+        statistics.reset(10);
+
+        long start = System.nanoTime();
+        statistics.frameStarted(start);
+        statistics.frameStarted(start + 10_000_000L);
+        // muted for one second
+        statistics.paused();
+        statistics.frameStarted(start + 1_010_000_000L);
+        statistics.frameStarted(start + 1_020_000_000L);
+
+        FrameStatistics.Snapshot snapshot = statistics.getAndReset();
+        assertThat(snapshot.jitterMax, is(0.0));
+        assertThat(snapshot.droppedFrames, is(0L));
+    }
+}
@@ -16,6 +16,7 @@ package org.smarthomej.binding.dmx.internal.handler;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.*;
@@ -36,6 +37,8 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.thing.binding.builder.BridgeBuilder;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.smarthomej.binding.dmx.internal.DmxThingHandler;
+import org.smarthomej.binding.dmx.internal.multiverse.BaseDmxChannel;
 
 /**
  * Tests cases for {@link org.smarthomej.binding.dmx.internal.handler.ArtnetBridgeHandler}.
@@ -103,4 +106,35 @@ public class ArtnetBridgeHandlerTest extends JavaTest {
         bridgeHandler.handleConfigurationUpdate(bridgeProperties);
         waitForAssert(() -> assertThat(bridgeHandler.getUniverseId(), is(TEST_UNIVERSE)));
     }
+
+    @Test
+    public void multipleUniverses() {
+        waitForAssert(() -> assertThat(bridgeHandler.getUniverseId(), is(TEST_UNIVERSE)));
+        assertThrows(IllegalArgumentException.class,
+                () -> bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 1, 1), bridge));
+
+        bridgeProperties.put(CONFIG_UNIVERSE_COUNT, 3);
+        bridgeHandler.handleConfigurationUpdate(bridgeProperties);
+        waitForAssert(() -> assertThat(bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 2, 1), bridge)
+                .getUniverseId(), is(TEST_UNIVERSE + 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 3, 1), bridge));
+    }
+
+    @Test
+    public void removedUniversesAreReportedToThings() {
+        bridgeProperties.put(CONFIG_UNIVERSE_COUNT, 3);
+        bridgeHandler.handleConfigurationUpdate(bridgeProperties);
+
+        Thing thing = mock(Thing.class);
+        DmxThingHandler thingHandler = mock(DmxThingHandler.class);
+        when(thing.getHandler()).thenReturn(thingHandler);
+        waitForAssert(() -> bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 2, 1), thing));
+
+        bridgeProperties.put(CONFIG_UNIVERSE_COUNT, 2);
+        bridgeHandler.handleConfigurationUpdate(bridgeProperties);
+        waitForAssert(() -> verify(thingHandler).universeRemoved(TEST_UNIVERSE + 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 2, 1), thing));
+    }
 }
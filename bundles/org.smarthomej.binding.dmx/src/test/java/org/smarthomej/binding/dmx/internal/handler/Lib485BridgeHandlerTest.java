@@ -18,6 +18,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.*;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +38,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.thing.binding.builder.BridgeBuilder;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 /**
  * Tests cases for {@link org.smarthomej.binding.dmx.internal.handler.Lib485BridgeHandler}.
@@ -54,8 +59,12 @@ public class Lib485BridgeHandlerTest extends JavaTest {
 
     @BeforeEach
     public void setUp() {
+        initializeBridge(TEST_ADDRESS);
+    }
+
+    private void initializeBridge(String address) {
         bridgeProperties = new HashMap<>();
-        bridgeProperties.put(CONFIG_ADDRESS, TEST_ADDRESS);
+        bridgeProperties.put(CONFIG_ADDRESS, address);
         bridge = BridgeBuilder.create(THING_TYPE_LIB485_BRIDGE, "lib485bridge").withLabel("Lib485 Bridge")
                 .withChannel(ChannelBuilder.create(CHANNEL_UID_MUTE, "Switch").withType(MUTE_CHANNEL_TYPEUID).build())
                 .withConfiguration(new Configuration(bridgeProperties)).build();
@@ -86,4 +95,56 @@ public class Lib485BridgeHandlerTest extends JavaTest {
     public void assertBridgeStatus() {
         waitForAssert(() -> assertEquals(ThingStatus.OFFLINE, bridge.getStatusInfo().getStatus()));
     }
+
+    @Test
+    public void failedConnectionsAreRetriedWithBackoff() throws IOException {
+        int port;
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(TEST_ADDRESS, 0));
+            port = ((InetSocketAddress) server.getLocalAddress()).getPort();
+        }
+
+        bridgeHandler.dispose();
+        initializeBridge(TEST_ADDRESS + ":" + port);
+        Lib485BridgeHandler.Receiver receiver = bridgeHandler.getReceivers().get(0);
+
+        // nobody is listening, so each failed attempt doubles the delay
+        waitForAssert(() -> assertTrue(receiver.getReconnectDelay() >= 4 * Lib485BridgeHandler.MIN_RECONNECT_DELAY));
+        assertFalse(receiver.isConnected());
+        waitForAssert(() -> assertEquals(ThingStatus.OFFLINE, bridge.getStatusInfo().getStatus()));
+
+        // as soon as the receiver is available again, the connection is established and the backoff reset
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(TEST_ADDRESS, port));
+            waitForAssert(() -> assertTrue(receiver.isConnected()), 15000, 100);
+            assertEquals(Lib485BridgeHandler.MIN_RECONNECT_DELAY, receiver.getReconnectDelay());
+            waitForAssert(() -> assertEquals(ThingStatus.ONLINE, bridge.getStatusInfo().getStatus()));
+        }
+    }
+
+    @Test
+    public void stalledReceiverIsDisconnected() throws IOException {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(TEST_ADDRESS, 0));
+            int port = ((InetSocketAddress) server.getLocalAddress()).getPort();
+
+            bridgeHandler.dispose();
+            initializeBridge(TEST_ADDRESS + ":" + port);
+            Lib485BridgeHandler.Receiver receiver = bridgeHandler.getReceivers().get(0);
+            waitForAssert(() -> assertTrue(receiver.isConnected()));
+
+            // the connection is accepted but never read, so the socket buffers fill up and frames are dropped
+            try (SocketChannel client = server.accept()) {
+                byte[] frame = new byte[Universe.MAX_UNIVERSE_SIZE];
+                long now = System.currentTimeMillis();
+                for (int i = 0; i < 100000; i++) {
+                    receiver.send(frame, frame.length, now);
+                }
+                assertTrue(receiver.isConnected());
+
+                receiver.send(frame, frame.length, System.currentTimeMillis() + Lib485BridgeHandler.STALL_TIMEOUT + 1);
+                assertFalse(receiver.isConnected());
+            }
+        }
+    }
 }
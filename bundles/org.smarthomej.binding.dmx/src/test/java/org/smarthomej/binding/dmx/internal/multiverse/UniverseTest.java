@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openhab.core.thing.Thing;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+public class UniverseTest {
+
+    Universe universe;
+    Thing thing;
+
+    @BeforeEach
+    public void setup() {
+        universe = new Universe(0);
+        universe.setRefreshTime(0);
+        thing = Mockito.mock(Thing.class);
+    }
+
+    @Test
+    public void framesAreDoubleBuffered() {
+        DmxChannel channel = universe.registerChannel(new BaseDmxChannel(0, 5), thing);
+        channel.setValue(200);
+
+        universe.calculateBuffer(1000);
+        byte[] firstFrame = universe.getFrame();
+        assertThat(firstFrame[4] & 0xFF, is(200));
+        assertThat(universe.getLastBufferChanged(), is(1000L));
+
+        channel.setValue(100);
+        universe.calculateBuffer(2000);
+        byte[] secondFrame = universe.getFrame();
+        assertThat(secondFrame, is(not(sameInstance(firstFrame))));
+        assertThat(secondFrame[4] & 0xFF, is(100));
+        // previous frame is not modified while the new frame is rendered
+        assertThat(firstFrame[4] & 0xFF, is(200));
+
+        // unchanged values keep the timestamp of the last change
+        universe.calculateBuffer(3000);
+        assertThat(universe.getFrame(), is(sameInstance(firstFrame)));
+        assertThat(firstFrame[4] & 0xFF, is(100));
+        assertThat(universe.getLastBufferChanged(), is(2000L));
+    }
+
+    @Test
+    public void bufferSizeFollowsHighestChannel() {
+        assertThat(universe.getBufferSize(), is(Universe.MIN_UNIVERSE_SIZE));
+        universe.registerChannel(new BaseDmxChannel(0, 100), thing).setValue(50);
+        universe.calculateBuffer(1000);
+
+        assertThat(universe.getBufferSize(), is(100));
+        assertThat(universe.getBuffer().length, is(100));
+        assertThat(universe.getBuffer()[99] & 0xFF, is(50));
+    }
+
+    @Test
+    public void dimCurveIsAppliedToSelectedChannels() {
+        universe.registerChannel(new BaseDmxChannel(0, 1), thing).setValue(128);
+        universe.registerChannel(new BaseDmxChannel(0, 2), thing).setValue(128);
+        universe.setDimCurveChannels("2");
+        universe.calculateBuffer(1000);
+
+        assertThat(universe.getFrame()[0] & 0xFF, is(128));
+        assertThat(universe.getFrame()[1] & 0xFF, is(47));
+    }
+
+    @Test
+    public void unregisteredChannelsKeepLastValue() {
+        DmxChannel channel = universe.registerChannel(new BaseDmxChannel(0, 3), thing);
+        channel.setValue(80);
+        universe.calculateBuffer(1000);
+
+        universe.unregisterChannels(thing);
+        channel.setValue(10);
+        universe.calculateBuffer(2000);
+        assertThat(universe.getFrame()[2] & 0xFF, is(80));
+    }
+}
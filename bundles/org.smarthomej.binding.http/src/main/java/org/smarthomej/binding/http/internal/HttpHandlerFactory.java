@@ -21,6 +21,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
@@ -33,6 +34,7 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.http.internal.http.TokenBucketRegistry;
 import org.smarthomej.commons.SimpleDynamicStateDescriptionProvider;
 import org.smarthomej.commons.transform.ValueTransformationProvider;
 
@@ -51,6 +53,8 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
     private final HttpClient secureClient;
     private final HttpClient insecureClient;
     private final ValueTransformationProvider valueTransformationProvider;
+    private final TokenBucketRegistry tokenBucketRegistry = new TokenBucketRegistry(
+            ThreadPoolManager.getScheduledPool("thingHandler"));
 
     private final SimpleDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
 
@@ -74,6 +78,7 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
 
     @Deactivate
     public void deactivate() {
+        tokenBucketRegistry.dispose();
         try {
             secureClient.stop();
             insecureClient.stop();
@@ -93,7 +98,8 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (THING_TYPE_URL.equals(thingTypeUID)) {
-            return new HttpThingHandler(thing, this, valueTransformationProvider, httpDynamicStateDescriptionProvider);
+            return new HttpThingHandler(thing, this, tokenBucketRegistry, valueTransformationProvider,
+                    httpDynamicStateDescriptionProvider);
         }
 
         return null;
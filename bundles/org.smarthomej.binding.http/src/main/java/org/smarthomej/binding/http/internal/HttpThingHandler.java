@@ -80,12 +80,12 @@ public class HttpThingHandler extends BaseThingHandler {
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
-            ValueTransformationProvider valueTransformationProvider,
+            TokenBucketRegistry tokenBucketRegistry, ValueTransformationProvider valueTransformationProvider,
             SimpleDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.httpClient = httpClientProvider.getSecureClient();
-        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, tokenBucketRegistry);
         this.valueTransformationProvider = valueTransformationProvider;
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
     }
@@ -140,7 +140,7 @@ public class HttpThingHandler extends BaseThingHandler {
             httpClient = httpClientProvider.getSecureClient();
         }
         rateLimitedHttpClient.setHttpClient(httpClient);
-        rateLimitedHttpClient.setDelay(config.delay);
+        rateLimitedHttpClient.setRateLimit(config.delay, config.burst);
 
         int channelCount = thing.getChannels().size();
         if (channelCount * config.delay > config.refresh * 1000) {
@@ -30,6 +30,7 @@ public class HttpThingConfig {
     public int refresh = 30;
     public int timeout = 3000;
     public int delay = 0;
+    public int burst = 1;
 
     public String username = "";
     public String password = "";
@@ -45,6 +46,9 @@ public class HttpThingConfig {
 
     public boolean ignoreSSLErrors = false;
 
+    public boolean updateOnChangeOnly = false;
+    public int forcedUpdateInterval = 0;
+
     // ArrayList is required as implementation because list may be modified later
     public ArrayList<String> headers = new ArrayList<>();
 }
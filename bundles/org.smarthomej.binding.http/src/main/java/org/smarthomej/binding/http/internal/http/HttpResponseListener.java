@@ -84,6 +84,10 @@ public class HttpResponseListener extends BufferingResponseListener {
                         future.complete(null);
                     }
                     break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    // content is unchanged, the caller is responsible for re-using the previous content
+                    future.complete(null);
+                    break;
                 case HttpStatus.UNAUTHORIZED_401:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: Authorization error",
                             request.getURI(), request.getMethod(), request.getContent());
@@ -14,7 +14,11 @@
 package org.smarthomej.binding.http.internal.http;
 
 import java.net.URI;
-import java.util.concurrent.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -26,47 +30,51 @@ import org.eclipse.jetty.http.HttpMethod;
 
 /**
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
- * the request creation
+ * the request creation. The limit is enforced by a {@link TokenBucket} that is shared with all other clients requesting
+ * from the same authority (host and port).
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
-    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
     private HttpClient httpClient;
     private int delay = 0; // in ms
-    private final ScheduledExecutorService scheduler;
-    private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
+    private int burst = 1;
+    private final TokenBucketRegistry tokenBucketRegistry;
+    // the buckets are resolved once per authority, so the registry is not consulted on every request
+    private final Map<String, TokenBucket> tokenBuckets = new HashMap<>();
+    private final Set<CompletableFuture<@Nullable Void>> pendingTokens = ConcurrentHashMap.newKeySet();
 
-    private @Nullable ScheduledFuture<?> processJob;
-
-    public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler) {
+    public RateLimitedHttpClient(HttpClient httpClient, TokenBucketRegistry tokenBucketRegistry) {
         this.httpClient = httpClient;
-        this.scheduler = scheduler;
+        this.tokenBucketRegistry = tokenBucketRegistry;
     }
 
     /**
-     * Stop processing the queue and clear it
+     * Stop processing requests and cancel all pending requests
      */
     public void shutdown() {
-        stopProcessJob();
-        requestQueue.forEach(queueEntry -> queueEntry.future.completeExceptionally(new CancellationException()));
+        releaseTokenBuckets();
+        pendingTokens.forEach(future -> future.cancel(false));
+        pendingTokens.clear();
     }
 
     /**
-     * Set a new delay
-     * 
-     * @param delay in ms between to requests
+     * Set a new rate limit
+     *
+     * @param delay in ms between to requests (0 = no limit)
+     * @param burst number of requests that can be sent without delay after an idle period
      */
-    public void setDelay(int delay) {
+    public void setRateLimit(int delay, int burst) {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay needs to be larger or equal to zero");
         }
-        this.delay = delay;
-        stopProcessJob();
-        if (delay != 0) {
-            processJob = scheduler.scheduleWithFixedDelay(this::processQueue, 0, delay, TimeUnit.MILLISECONDS);
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst needs to be larger than zero");
         }
+        releaseTokenBuckets();
+        this.delay = delay;
+        this.burst = burst;
     }
 
     /**
@@ -87,15 +95,24 @@ public class RateLimitedHttpClient {
      * @return a CompletableFuture that completes with the request
      */
     public CompletableFuture<Request> newRequest(URI finalUrl, HttpMethod method, String content) {
-        // if no delay is set, return a completed CompletableFuture
         CompletableFuture<Request> future = new CompletableFuture<>();
         RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, future);
-        if (delay == 0) {
+        String host = finalUrl.getHost();
+        if (delay == 0 || host == null) {
+            // if no delay is set, complete immediately
             queueEntry.completeFuture(httpClient);
         } else {
-            if (!requestQueue.offer(queueEntry)) {
-                future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
-            }
+            String authority = host + ":" + HttpClient.normalizePort(finalUrl.getScheme(), finalUrl.getPort());
+            CompletableFuture<@Nullable Void> token = getTokenBucket(authority).acquire();
+            pendingTokens.add(token);
+            token.whenComplete((v, e) -> {
+                pendingTokens.remove(token);
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    queueEntry.completeFuture(httpClient);
+                }
+            });
         }
         return future;
     }
@@ -109,19 +126,14 @@ public class RateLimitedHttpClient {
         return httpClient.getAuthenticationStore();
     }
 
-    private void stopProcessJob() {
-        ScheduledFuture<?> processJob = this.processJob;
-        if (processJob != null) {
-            processJob.cancel(false);
-            this.processJob = null;
-        }
+    private synchronized TokenBucket getTokenBucket(String authority) {
+        return tokenBuckets.computeIfAbsent(authority,
+                k -> tokenBucketRegistry.getTokenBucket(authority, delay, burst, this));
     }
 
-    private void processQueue() {
-        RequestQueueEntry queueEntry = requestQueue.poll();
-        if (queueEntry != null) {
-            queueEntry.completeFuture(httpClient);
-        }
+    private synchronized void releaseTokenBuckets() {
+        tokenBuckets.keySet().forEach(authority -> tokenBucketRegistry.releaseTokenBucket(authority, this));
+        tokenBuckets.clear();
     }
 
     private static class RequestQueueEntry {
@@ -14,18 +14,23 @@
 package org.smarthomej.binding.http.internal.http;
 
 import java.net.*;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.http.internal.Util;
@@ -51,9 +56,14 @@ public class RefreshingUrlCache {
     private final List<String> headers;
     private final HttpMethod httpMethod;
     private final String httpContent;
+    private final boolean updateOnChangeOnly;
+    private final long forcedUpdateInterval; // in ns, 0 = never
 
     private final ScheduledFuture<?> future;
     private @Nullable ContentWrapper lastContent;
+    private volatile @Nullable String lastETag;
+    private volatile @Nullable String lastModified;
+    private volatile long lastUpdate = 0;
 
     public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient, String url,
             HttpThingConfig thingConfig, String httpContent) {
@@ -65,6 +75,8 @@ public class RefreshingUrlCache {
         this.httpMethod = thingConfig.stateMethod;
         this.httpContent = httpContent;
         fallbackEncoding = thingConfig.encoding;
+        this.updateOnChangeOnly = thingConfig.updateOnChangeOnly;
+        this.forcedUpdateInterval = TimeUnit.SECONDS.toNanos(thingConfig.forcedUpdateInterval);
 
         future = executor.scheduleWithFixedDelay(this::refresh, 1, thingConfig.refresh, TimeUnit.SECONDS);
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, thingConfig.refresh);
@@ -97,6 +109,22 @@ public class RefreshingUrlCache {
                     }
                 });
 
+                // conditional request: only possible if we have a previous result that can be re-used and
+                // not wanted if a forced update is due (a 304 response would suppress it)
+                if (lastContent != null && !isForcedUpdateDue()) {
+                    String eTag = lastETag;
+                    if (eTag != null) {
+                        request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                    }
+                    String modified = lastModified;
+                    if (modified != null) {
+                        request.header(HttpHeader.IF_MODIFIED_SINCE, modified);
+                    }
+                }
+
+                AtomicBoolean notModified = new AtomicBoolean(false);
+                request.onResponseHeaders(r -> notModified.set(processResponseHeaders(r)));
+
                 CompletableFuture<@Nullable ContentWrapper> response = new CompletableFuture<>();
                 response.exceptionally(e -> {
                     if (e instanceof HttpAuthException) {
@@ -115,7 +143,13 @@ public class RefreshingUrlCache {
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> {
+                    if (notModified.get()) {
+                        logger.trace("Content of '{}' not modified, skipping update", uri);
+                    } else {
+                        processResult(content);
+                    }
+                });
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
@@ -155,8 +189,31 @@ public class RefreshingUrlCache {
         }
     }
 
+    /**
+     * store the cache validators of a successful response
+     *
+     * @param response the response
+     * @return true if the server reported that the content is not modified
+     */
+    private boolean processResponseHeaders(Response response) {
+        if (response.getStatus() == HttpStatus.NOT_MODIFIED_304) {
+            return true;
+        }
+        // validators of error responses must not be used for revalidating the content
+        if (HttpStatus.isSuccess(response.getStatus())) {
+            lastETag = response.getHeaders().get(HttpHeader.ETAG);
+            lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+        }
+        return false;
+    }
+
     private void processResult(@Nullable ContentWrapper content) {
+        if (content != null && isUnchanged(content)) {
+            logger.trace("Content of '{}' did not change, skipping update", url);
+            return;
+        }
         if (content != null) {
+            lastUpdate = System.nanoTime();
             for (Consumer<ContentWrapper> consumer : consumers) {
                 try {
                     consumer.accept(content);
@@ -167,4 +224,31 @@ public class RefreshingUrlCache {
         }
         lastContent = content;
     }
+
+    /**
+     * check if the content is equal to the last content and no forced update is due
+     *
+     * @param content the new content
+     * @return true if the consumers need no update
+     */
+    private boolean isUnchanged(ContentWrapper content) {
+        ContentWrapper lastContent = this.lastContent;
+        if (!updateOnChangeOnly || lastContent == null) {
+            return false;
+        }
+        if (isForcedUpdateDue()) {
+            return false;
+        }
+        return Arrays.equals(content.getRawContent(), lastContent.getRawContent());
+    }
+
+    /**
+     * check if the consumers need to be updated regardless of content changes
+     *
+     * @return true if the forced update interval elapsed since the last update
+     */
+    private boolean isForcedUpdateDue() {
+        return updateOnChangeOnly && forcedUpdateInterval > 0
+                && System.nanoTime() - lastUpdate >= forcedUpdateInterval;
+    }
 }
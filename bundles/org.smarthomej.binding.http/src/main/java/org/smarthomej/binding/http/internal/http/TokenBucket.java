@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.http.internal.http;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TokenBucket} is a token-bucket rate limiter. A new token is added every {@code delay} ms, up to a maximum
+ * of {@code burst} tokens. Requests that can't get a token immediately are queued until a token is available.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TokenBucket {
+    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
+    private static final long STATISTICS_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(TokenBucket.class);
+    private final String name;
+    private final ScheduledExecutorService scheduler;
+    private final int delay; // in ms
+    private final int burst;
+    private final long interval; // in ns
+    private final Queue<QueueEntry> queue = new ArrayDeque<>();
+
+    private long tokens;
+    private long lastRefill;
+    private @Nullable ScheduledFuture<?> drainJob;
+
+    // statistics
+    private long statisticsStart;
+    private long requestCount = 0;
+    private long delayedCount = 0;
+    private long totalWaitTime = 0; // in ns
+    private long maxWaitTime = 0; // in ns
+    private int maxQueueSize = 0;
+
+    /**
+     * create a new token bucket
+     *
+     * @param name the name of this bucket (used for logging)
+     * @param scheduler the scheduler used for releasing queued requests
+     * @param delay time in ms between two new tokens
+     * @param burst maximum number of tokens
+     */
+    public TokenBucket(String name, ScheduledExecutorService scheduler, int delay, int burst) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay needs to be larger than zero");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Burst needs to be larger than zero");
+        }
+        this.name = name;
+        this.scheduler = scheduler;
+        this.delay = delay;
+        this.burst = burst;
+        this.interval = TimeUnit.MILLISECONDS.toNanos(delay);
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+        this.statisticsStart = lastRefill;
+    }
+
+    /**
+     * get a token
+     *
+     * @return a future that completes as soon as a token is available
+     */
+    public synchronized CompletableFuture<@Nullable Void> acquire() {
+        CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+        refill();
+        requestCount++;
+        if (queue.isEmpty() && tokens > 0) {
+            tokens--;
+            future.complete(null);
+        } else if (queue.size() >= MAX_QUEUE_SIZE) {
+            future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
+        } else {
+            queue.add(new QueueEntry(future, System.nanoTime()));
+            maxQueueSize = Math.max(maxQueueSize, queue.size());
+            scheduleDrain();
+        }
+        logStatistics(System.nanoTime());
+        return future;
+    }
+
+    /**
+     * Stop processing the queue and cancel all pending requests
+     */
+    public void shutdown() {
+        List<QueueEntry> entries;
+        synchronized (this) {
+            ScheduledFuture<?> drainJob = this.drainJob;
+            if (drainJob != null) {
+                drainJob.cancel(false);
+                this.drainJob = null;
+            }
+            entries = new ArrayList<>(queue);
+            queue.clear();
+        }
+        entries.forEach(entry -> entry.future.cancel(false));
+    }
+
+    public int getDelay() {
+        return delay;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long newTokens = (now - lastRefill) / interval;
+        if (newTokens > 0) {
+            tokens = Math.min(burst, tokens + newTokens);
+            // if the bucket is full, we don't accumulate time for the next token
+            lastRefill = tokens == burst ? now : lastRefill + newTokens * interval;
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainJob == null && !queue.isEmpty()) {
+            long wait = Math.max(0, lastRefill + interval - System.nanoTime());
+            drainJob = scheduler.schedule(this::drain, wait, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void drain() {
+        List<CompletableFuture<@Nullable Void>> released = new ArrayList<>();
+        synchronized (this) {
+            drainJob = null;
+            refill();
+            long now = System.nanoTime();
+            while (tokens > 0 && !queue.isEmpty()) {
+                QueueEntry entry = queue.remove();
+                if (entry.future.isDone()) {
+                    // cancelled while waiting, no token needed
+                    continue;
+                }
+                tokens--;
+                long waitTime = now - entry.timestamp;
+                delayedCount++;
+                totalWaitTime += waitTime;
+                maxWaitTime = Math.max(maxWaitTime, waitTime);
+                released.add(entry.future);
+            }
+            scheduleDrain();
+            logStatistics(now);
+        }
+        // complete outside the lock, completion stages run in this thread
+        released.forEach(future -> future.complete(null));
+    }
+
+    private void logStatistics(long now) {
+        if (now - statisticsStart < STATISTICS_INTERVAL) {
+            return;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Rate limiter '{}': {} requests ({} delayed), queue size {} (max {}), wait time avg {} ms / max {} ms",
+                    name, requestCount, delayedCount, queue.size(), maxQueueSize,
+                    delayedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitTime / delayedCount),
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitTime));
+        }
+        statisticsStart = now;
+        requestCount = 0;
+        delayedCount = 0;
+        totalWaitTime = 0;
+        maxWaitTime = 0;
+        maxQueueSize = queue.size();
+    }
+
+    private static class QueueEntry {
+        private final CompletableFuture<@Nullable Void> future;
+        private final long timestamp;
+
+        public QueueEntry(CompletableFuture<@Nullable Void> future, long timestamp) {
+            this.future = future;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TokenBucketRegistry} holds the {@link TokenBucket}s that are shared by authority (host and port) between
+ * all things
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TokenBucketRegistry {
+    private final Logger logger = LoggerFactory.getLogger(TokenBucketRegistry.class);
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, TokenBucket> buckets = new HashMap<>();
+    private final Map<String, Set<Object>> users = new HashMap<>();
+
+    public TokenBucketRegistry(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * get the token bucket for an authority (a new one is created if none exists)
+     *
+     * If a bucket for this authority already exists with different settings, the existing bucket is used.
+     *
+     * @param authority the authority (host:port)
+     * @param delay time in ms between two new tokens
+     * @param burst maximum number of tokens
+     * @param user the object using this bucket
+     * @return the token bucket
+     */
+    public synchronized TokenBucket getTokenBucket(String authority, int delay, int burst, Object user) {
+        TokenBucket bucket = buckets.get(authority);
+        if (bucket == null) {
+            bucket = new TokenBucket(authority, scheduler, delay, burst);
+            buckets.put(authority, bucket);
+            logger.debug("Created rate limiter for '{}' with delay {} ms and burst {}", authority, delay, burst);
+        } else if (bucket.getDelay() != delay || bucket.getBurst() != burst) {
+            logger.warn(
+                    "Rate limit for '{}' (delay {} ms, burst {}) differs from existing limit (delay {} ms, burst {}). Using existing limit.",
+                    authority, delay, burst, bucket.getDelay(), bucket.getBurst());
+        }
+        users.computeIfAbsent(authority, k -> new HashSet<>()).add(user);
+        return bucket;
+    }
+
+    /**
+     * release the token bucket for an authority (the bucket is removed if it has no users anymore)
+     *
+     * @param authority the authority (host:port)
+     * @param user the object that used this bucket
+     */
+    public synchronized void releaseTokenBucket(String authority, Object user) {
+        Set<Object> authorityUsers = users.get(authority);
+        if (authorityUsers == null) {
+            return;
+        }
+        authorityUsers.remove(user);
+        if (authorityUsers.isEmpty()) {
+            users.remove(authority);
+            TokenBucket bucket = buckets.remove(authority);
+            if (bucket != null) {
+                bucket.shutdown();
+                logger.debug("Removed rate limiter for '{}'", authority);
+            }
+        }
+    }
+
+    /**
+     * remove all token buckets
+     */
+    public synchronized void dispose() {
+        buckets.values().forEach(TokenBucket::shutdown);
+        buckets.clear();
+        users.clear();
+    }
+}
@@ -13,9 +13,13 @@
  */
 package org.smarthomej.binding.knx.internal.client;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -72,9 +76,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private final ThingUID thingUID;
     private final int responseTimeout;
-    private final int readingPause;
     private final int autoReconnectPeriod;
-    private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
 
@@ -84,19 +86,23 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ManagementClient managementClient;
     private @Nullable KNXNetworkLink link;
     private @Nullable DeviceInfoClient deviceInfoClient;
-    private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners by group address, the lists are never modified but replaced
+    private final Map<GroupAddress, List<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> registeredGroupAddresses = new HashMap<>();
+    private final BusReadScheduler readScheduler;
+    private final BusWriteQueue writeQueue;
+    private final GroupAddressValueCache valueCache = new GroupAddressValueCache();
 
     @FunctionalInterface
     private interface ListenerNotification {
         void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, byte[] asdu);
     }
 
+    // package-private for tests
     @NonNullByDefault({})
-    private final ProcessListener processListener = new ProcessListener() {
+    final ProcessListener processListener = new ProcessListener() {
 
         @Override
         public void detached(DetachEvent e) {
@@ -105,6 +111,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
+            valueCache.put(e.getDestination(), e.getSourceAddr(), e.getASDU());
             processEvent("Group Write", e, (listener, source, destination, asdu) -> {
                 listener.onGroupWrite(AbstractKNXClient.this, source, destination, asdu);
             });
@@ -119,6 +126,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
+            valueCache.put(e.getDestination(), e.getSourceAddr(), e.getASDU());
             processEvent("Group Read Response", e, (listener, source, destination, asdu) -> {
                 listener.onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu);
             });
@@ -130,8 +138,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
-        this.readingPause = readingPause;
-        this.readRetriesLimit = readRetriesLimit;
+        this.readScheduler = new BusReadScheduler(knxScheduler, readingPause, readRetriesLimit);
+        this.writeQueue = new BusWriteQueue(knxScheduler);
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
     }
@@ -198,8 +206,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
             link.addLinkListener(this);
 
-            busJob = knxScheduler.scheduleWithFixedDelay(() -> readNextQueuedDatapoint(), 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            readScheduler.start(this::readFromBus);
+            writeQueue.start(this::sendToKNX);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -225,8 +233,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
-        busJob = nullify(busJob, j -> j.cancel(true));
+        readScheduler.stop();
+        writeQueue.stop();
+        // telegrams may be missed while disconnected
+        valueCache.clear();
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, mp -> mp.detach());
         managementClient = nullify(managementClient, mc -> mc.detach());
@@ -253,11 +263,21 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        readScheduler.telegramReceived();
+        List<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners == null) {
+            return;
         }
+        // notify all listeners in one task, so the calimero thread is not blocked
+        knxScheduler.execute(() -> {
+            for (GroupAddressListener listener : listeners) {
+                try {
+                    action.apply(listener, source, destination, asdu);
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to process {} telegram for '{}': {}", task, destination, e.getMessage(), e);
+                }
+            }
+        });
     }
 
     /**
@@ -272,34 +292,16 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         return typeHelper.toDPTValue(type, dpt);
     }
 
-    private void readNextQueuedDatapoint() {
+    private boolean readFromBus(Datapoint datapoint) throws KNXException, InterruptedException {
         if (!connectIfNotAutomatic()) {
-            return;
+            return false;
         }
         ProcessCommunicator processCommunicator = this.processCommunicator;
         if (processCommunicator == null) {
-            return;
-        }
-        ReadDatapoint datapoint = readDatapoints.poll();
-        if (datapoint != null) {
-            datapoint.incrementRetries();
-            try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-                processCommunicator.read(datapoint.getDatapoint());
-            } catch (KNXException e) {
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
-                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                            datapoint.getDatapoint().getMainAddress(), e.getMessage());
-                } else {
-                    logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                            datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
-                }
-            } catch (InterruptedException e) {
-                logger.debug("Interrupted sending KNX read request");
-                return;
-            }
+            return false;
         }
+        processCommunicator.read(datapoint);
+        return true;
     }
 
     public void dispose() {
@@ -367,23 +369,53 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readScheduler.schedule(datapoint, priority);
+    }
+
+    @Override
+    public GroupAddressValueCache.@Nullable CachedValue getCachedValue(GroupAddress groupAddress) {
+        return valueCache.get(groupAddress);
     }
 
     @Override
     public final boolean registerGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.add(listener);
+        Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        synchronized (registeredGroupAddresses) {
+            Set<GroupAddress> oldGroupAddresses = registeredGroupAddresses.put(listener, groupAddresses);
+            if (oldGroupAddresses != null) {
+                oldGroupAddresses.forEach(groupAddress -> removeFromIndex(groupAddress, listener));
+            }
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.compute(groupAddress, (k, listeners) -> {
+                    List<GroupAddressListener> newListeners = listeners == null ? new ArrayList<>()
+                            : new ArrayList<>(listeners);
+                    newListeners.add(listener);
+                    return List.copyOf(newListeners);
+                });
+            }
+            return oldGroupAddresses == null;
+        }
     }
 
     @Override
     public final boolean unregisterGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.remove(listener);
+        synchronized (registeredGroupAddresses) {
+            Set<GroupAddress> groupAddresses = registeredGroupAddresses.remove(listener);
+            if (groupAddresses == null) {
+                return false;
+            }
+            groupAddresses.forEach(groupAddress -> removeFromIndex(groupAddress, listener));
+            return true;
+        }
+    }
+
+    private void removeFromIndex(GroupAddress groupAddress, GroupAddressListener listener) {
+        groupAddressListeners.computeIfPresent(groupAddress, (k, listeners) -> {
+            List<GroupAddressListener> newListeners = new ArrayList<>(listeners);
+            newListeners.remove(listener);
+            return newListeners.isEmpty() ? null : List.copyOf(newListeners);
+        });
     }
 
     @Override
@@ -403,47 +435,52 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void writeToKNX(OutboundSpec commandSpec) throws KNXException {
+    public CompletableFuture<@Nullable Void> writeToKNX(OutboundSpec commandSpec) {
         ProcessCommunicator processCommunicator = this.processCommunicator;
         KNXNetworkLink link = this.link;
         if (processCommunicator == null || link == null) {
             logger.debug("Cannot write to the KNX bus (processCommuicator: {}, link: {})",
                     processCommunicator == null ? "Not OK" : "OK",
                     link == null ? "Not OK" : (link.isOpen() ? "Open" : "Closed"));
-            return;
+            return CompletableFuture.failedFuture(new KNXException("Not connected to the KNX bus"));
         }
         GroupAddress groupAddress = commandSpec.getGroupAddress();
 
         logger.trace("writeToKNX groupAddress '{}', commandSpec '{}'", groupAddress, commandSpec);
 
-        if (groupAddress != null) {
-            sendToKNX(processCommunicator, link, groupAddress, commandSpec.getDPT(), commandSpec.getType());
+        if (groupAddress == null) {
+            return CompletableFuture.completedFuture(null);
         }
+        return writeQueue.write(groupAddress, commandSpec.getDPT(), commandSpec.getType());
     }
 
     @Override
-    public void respondToKNX(OutboundSpec responseSpec) throws KNXException {
+    public CompletableFuture<@Nullable Void> respondToKNX(OutboundSpec responseSpec) {
         ProcessCommunicationResponder responseCommunicator = this.responseCommunicator;
         KNXNetworkLink link = this.link;
         if (responseCommunicator == null || link == null) {
             logger.debug("Cannot write to the KNX bus (responseCommunicator: {}, link: {})",
                     responseCommunicator == null ? "Not OK" : "OK",
                     link == null ? "Not OK" : (link.isOpen() ? "Open" : "Closed"));
-            return;
+            return CompletableFuture.failedFuture(new KNXException("Not connected to the KNX bus"));
         }
         GroupAddress groupAddress = responseSpec.getGroupAddress();
 
         logger.trace("respondToKNX groupAddress '{}', responseSpec '{}'", groupAddress, responseSpec);
 
-        if (groupAddress != null) {
-            sendToKNX(responseCommunicator, link, groupAddress, responseSpec.getDPT(), responseSpec.getType());
+        if (groupAddress == null) {
+            return CompletableFuture.completedFuture(null);
         }
+        return writeQueue.respond(groupAddress, responseSpec.getDPT(), responseSpec.getType());
     }
 
-    private void sendToKNX(ProcessCommunicationBase communicator, KNXNetworkLink link, GroupAddress groupAddress,
-            String dpt, Type type) throws KNXException {
+    private void sendToKNX(GroupAddress groupAddress, String dpt, Type type, boolean response) throws KNXException {
         if (!connectIfNotAutomatic()) {
-            return;
+            throw new KNXException("Not connected to the KNX bus");
+        }
+        ProcessCommunicationBase communicator = response ? responseCommunicator : processCommunicator;
+        if (communicator == null) {
+            throw new KNXException("Not connected to the KNX bus");
         }
 
         Datapoint datapoint = new CommandDP(groupAddress, thingUID.toString(), 0, dpt);
@@ -452,9 +489,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         logger.trace("sendToKNX mappedValue: '{}' groupAddress: '{}'", mappedValue, groupAddress);
 
         if (mappedValue == null) {
-            logger.debug("Value '{}' cannot be mapped to datapoint '{}'", type, datapoint);
-            return;
+            throw new KNXException("Value '" + type + "' cannot be mapped to datapoint '" + datapoint + "'");
         }
+        // our own telegrams are not received, the new value is unknown until it is read from the bus again
+        valueCache.invalidate(groupAddress);
         for (int i = 0; i < MAX_SEND_ATTEMPTS; i++) {
             try {
                 communicator.write(datapoint, mappedValue);
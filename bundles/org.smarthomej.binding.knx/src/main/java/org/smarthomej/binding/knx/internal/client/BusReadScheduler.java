@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link BusReadScheduler} sends queued read requests to the KNX bus
+ *
+ * Requests are sent in the order of their {@link ReadPriority}, a request for a group address that is already queued
+ * is merged with the queued request. The pause between two requests adapts to the bus: it is increased if the observed
+ * bus load is high or the responses are slow and decreased down to the configured reading pause otherwise.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class BusReadScheduler {
+    private static final int MIN_BACKOFF_PAUSE = 50; // in ms
+    private static final int MAX_PAUSE = 5000; // in ms
+    // TP1 can transport about 50 telegrams/s, slow down if more than 60% of that are observed
+    private static final int HIGH_BUS_LOAD = 30; // in telegrams/s
+    private static final long SLOW_RESPONSE_TIME = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long LOAD_WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The {@link Reader} sends a single read request to the bus
+     */
+    @FunctionalInterface
+    public interface Reader {
+        /**
+         * send a read request and wait for the response
+         *
+         * @param datapoint the datapoint to read
+         * @return false if the bus is currently not available
+         * @throws KNXException if the read request failed
+         * @throws InterruptedException if interrupted while waiting for the response
+         */
+        boolean read(Datapoint datapoint) throws KNXException, InterruptedException;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(BusReadScheduler.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final int readingPause;
+    private final int readRetriesLimit;
+
+    private final Map<GroupAddress, ReadDatapoint> pendingReads = new HashMap<>();
+    // one queue per priority, an address may be contained in several queues if the priority was raised
+    private final List<Deque<GroupAddress>> queues = Stream.of(ReadPriority.values())
+            .map(priority -> new ArrayDeque<GroupAddress>()).collect(Collectors.toList());
+
+    private @Nullable Reader reader;
+    private @Nullable ScheduledFuture<?> readJob;
+    private int generation;
+    private int pause;
+
+    private long loadWindowStart = System.nanoTime();
+    private int telegramsInWindow;
+    private int busLoad;
+
+    private long drainStart;
+    private int drainReads;
+    private int maxQueueDepth;
+
+    /**
+     * create a new scheduler
+     *
+     * @param scheduler the scheduler used for sending the requests
+     * @param readingPause the minimum pause between two requests (in ms)
+     * @param readRetriesLimit the maximum number of attempts for each request
+     */
+    public BusReadScheduler(ScheduledExecutorService scheduler, int readingPause, int readRetriesLimit) {
+        this.scheduler = scheduler;
+        this.readingPause = readingPause;
+        this.readRetriesLimit = readRetriesLimit;
+        this.pause = readingPause;
+    }
+
+    /**
+     * start sending queued requests
+     *
+     * @param reader the reader used for sending requests to the bus
+     */
+    public synchronized void start(Reader reader) {
+        this.reader = reader;
+        pause = readingPause;
+        if (!pendingReads.isEmpty() && readJob == null) {
+            startDrain();
+        }
+    }
+
+    /**
+     * stop sending requests and discard all queued requests
+     */
+    public synchronized void stop() {
+        reader = null;
+        generation++;
+        ScheduledFuture<?> readJob = this.readJob;
+        if (readJob != null) {
+            readJob.cancel(true);
+            this.readJob = null;
+        }
+        pendingReads.clear();
+        queues.forEach(Deque::clear);
+    }
+
+    /**
+     * queue a read request
+     *
+     * @param datapoint the datapoint to read
+     * @param priority the priority of this request
+     */
+    public synchronized void schedule(Datapoint datapoint, ReadPriority priority) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        ReadDatapoint pendingRead = pendingReads.get(groupAddress);
+        if (pendingRead != null) {
+            if (priority.compareTo(pendingRead.getPriority()) < 0) {
+                // the entry in the old queue is skipped when polled
+                pendingRead.setPriority(priority);
+                queues.get(priority.ordinal()).addLast(groupAddress);
+            }
+            return;
+        }
+        enqueue(new ReadDatapoint(datapoint, readRetriesLimit, priority), false);
+    }
+
+    /**
+     * notify the scheduler about a telegram on the bus
+     */
+    public synchronized void telegramReceived() {
+        updateBusLoad(System.nanoTime());
+        telegramsInWindow++;
+    }
+
+    /**
+     * get the number of queued requests
+     *
+     * @return the number of group addresses waiting to be read
+     */
+    public synchronized int getQueueDepth() {
+        return pendingReads.size();
+    }
+
+    /**
+     * get the current pause between two requests
+     *
+     * @return the pause in ms
+     */
+    public synchronized int getPause() {
+        return pause;
+    }
+
+    private void enqueue(ReadDatapoint read, boolean first) {
+        GroupAddress groupAddress = read.getDatapoint().getMainAddress();
+        pendingReads.put(groupAddress, read);
+        Deque<GroupAddress> queue = queues.get(read.getPriority().ordinal());
+        if (first) {
+            queue.addFirst(groupAddress);
+        } else {
+            queue.addLast(groupAddress);
+        }
+        maxQueueDepth = Math.max(maxQueueDepth, pendingReads.size());
+        if (readJob == null && reader != null) {
+            startDrain();
+        }
+    }
+
+    private void startDrain() {
+        drainStart = System.nanoTime();
+        drainReads = 0;
+        maxQueueDepth = pendingReads.size();
+        int generation = this.generation;
+        readJob = scheduler.schedule(() -> readNext(generation), 0, TimeUnit.MILLISECONDS);
+    }
+
+    private @Nullable ReadDatapoint poll() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            Deque<GroupAddress> queue = queues.get(priority.ordinal());
+            GroupAddress groupAddress;
+            while ((groupAddress = queue.pollFirst()) != null) {
+                ReadDatapoint read = pendingReads.get(groupAddress);
+                if (read != null && read.getPriority() == priority) {
+                    pendingReads.remove(groupAddress);
+                    return read;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void readNext(int generation) {
+        Reader reader;
+        ReadDatapoint read;
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            reader = this.reader;
+            read = poll();
+            if (reader == null || read == null) {
+                readJob = null;
+                return;
+            }
+        }
+
+        GroupAddress groupAddress = read.getDatapoint().getMainAddress();
+        boolean sent = false;
+        boolean failed = false;
+        long start = System.nanoTime();
+        try {
+            logger.trace("Sending a Group Read Request telegram for {}", groupAddress);
+            sent = reader.read(read.getDatapoint());
+        } catch (KNXException e) {
+            failed = true;
+            read.incrementRetries();
+            if (read.getRetries() < read.getLimit()) {
+                logger.debug("Could not read value for datapoint {}: {}. Going to retry.", groupAddress,
+                        e.getMessage());
+            } else {
+                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
+                        groupAddress, read.getLimit());
+            }
+        } catch (InterruptedException e) {
+            logger.debug("Interrupted sending KNX read request");
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long now = System.nanoTime();
+
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            if (!sent && !failed) {
+                // bus not available, keep the request and wait
+                if (!pendingReads.containsKey(groupAddress)) {
+                    enqueue(read, true);
+                }
+                pause = MAX_PAUSE;
+            } else {
+                if (failed && read.getRetries() < read.getLimit() && !pendingReads.containsKey(groupAddress)) {
+                    enqueue(read, false);
+                }
+                if (sent) {
+                    // our own request also loads the bus
+                    updateBusLoad(now);
+                    telegramsInWindow++;
+                    drainReads++;
+                }
+                adaptPause(sent && now - start > SLOW_RESPONSE_TIME);
+            }
+
+            if (pendingReads.isEmpty()) {
+                readJob = null;
+                logger.debug(
+                        "Read queue drained: {} read requests in {} ms, maximum queue depth {}, bus load {} telegrams/s",
+                        drainReads, TimeUnit.NANOSECONDS.toMillis(now - drainStart), maxQueueDepth, busLoad);
+            } else {
+                readJob = scheduler.schedule(() -> readNext(generation), pause, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void adaptPause(boolean slowResponse) {
+        updateBusLoad(System.nanoTime());
+        if (slowResponse || busLoad > HIGH_BUS_LOAD) {
+            pause = Math.min(Math.max(2 * pause, MIN_BACKOFF_PAUSE), MAX_PAUSE);
+            logger.trace("Increased reading pause to {} ms (bus load {} telegrams/s, slow response: {})", pause,
+                    busLoad, slowResponse);
+        } else {
+            pause = Math.max(pause / 2, readingPause);
+        }
+    }
+
+    private void updateBusLoad(long now) {
+        long elapsed = now - loadWindowStart;
+        if (elapsed >= LOAD_WINDOW) {
+            // if the last window ended long ago, there was no traffic in between
+            busLoad = elapsed < 2 * LOAD_WINDOW ? telegramsInWindow : 0;
+            telegramsInWindow = 0;
+            loadWindowStart = now;
+        }
+    }
+}
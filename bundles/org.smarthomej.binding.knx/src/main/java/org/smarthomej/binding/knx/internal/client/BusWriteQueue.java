@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.types.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+
+/**
+ * The {@link BusWriteQueue} sends values to the KNX bus asynchronously
+ *
+ * Only one telegram is sent at a time, so the throughput is limited to what the link can transport. If a value for a
+ * group address is queued while another value for the same group address is still waiting, the waiting value is
+ * replaced (last value wins) and both callers share the same result. Only absolute values are replaced, relative
+ * values and triggers (e.g. dimming steps, scenes) are sent individually. Responses to read requests are sent before
+ * other values.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class BusWriteQueue {
+
+    /**
+     * The {@link Sender} sends a single value to the bus
+     */
+    @FunctionalInterface
+    public interface Sender {
+        /**
+         * send a value and wait until it was sent
+         *
+         * @param groupAddress the destination
+         * @param dpt the datapoint type
+         * @param type the value
+         * @param response true if a GroupValueResponse should be sent instead of a GroupValueWrite
+         * @throws KNXException if sending failed
+         * @throws InterruptedException if interrupted while sending
+         */
+        void send(GroupAddress groupAddress, String dpt, Type type, boolean response)
+                throws KNXException, InterruptedException;
+    }
+
+    // trigger (1.017), relative dimming and blinds (3.x), scene number (17.x) and scene control (18.x)
+    private static final String DPT_TRIGGER = "1.017";
+    private static final Set<String> RELATIVE_DPT_MAIN_NUMBERS = Set.of("3", "17", "18");
+
+    private final Logger logger = LoggerFactory.getLogger(BusWriteQueue.class);
+
+    private final Executor executor;
+    private final PendingWrites pendingResponses = new PendingWrites();
+    private final PendingWrites pendingWrites = new PendingWrites();
+
+    private @Nullable Sender sender;
+    private boolean sending;
+    private int generation;
+
+    /**
+     * create a new queue
+     *
+     * @param executor the executor used for sending
+     */
+    public BusWriteQueue(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * start sending queued values
+     *
+     * @param sender the sender used for sending values to the bus
+     */
+    public synchronized void start(Sender sender) {
+        this.sender = sender;
+    }
+
+    /**
+     * stop sending, all queued values are discarded
+     */
+    public synchronized void stop() {
+        sender = null;
+        sending = false;
+        generation++;
+        KNXException e = new KNXException("Connection to the KNX bus was closed");
+        pendingResponses.failAll(e);
+        pendingWrites.failAll(e);
+    }
+
+    /**
+     * queue a GroupValueWrite
+     *
+     * @param groupAddress the destination
+     * @param dpt the datapoint type
+     * @param type the value
+     * @return a future that completes when the value was sent
+     */
+    public synchronized CompletableFuture<@Nullable Void> write(GroupAddress groupAddress, String dpt, Type type) {
+        return enqueue(pendingWrites, groupAddress, dpt, type);
+    }
+
+    /**
+     * queue a GroupValueResponse
+     *
+     * @param groupAddress the destination
+     * @param dpt the datapoint type
+     * @param type the value
+     * @return a future that completes when the value was sent
+     */
+    public synchronized CompletableFuture<@Nullable Void> respond(GroupAddress groupAddress, String dpt, Type type) {
+        return enqueue(pendingResponses, groupAddress, dpt, type);
+    }
+
+    /**
+     * get the number of queued values
+     *
+     * @return the number of values waiting to be sent
+     */
+    public synchronized int getQueueDepth() {
+        return pendingResponses.size() + pendingWrites.size();
+    }
+
+    private CompletableFuture<@Nullable Void> enqueue(PendingWrites queue, GroupAddress groupAddress, String dpt,
+            Type type) {
+        if (sender == null) {
+            return CompletableFuture.failedFuture(new KNXException("Not connected to the KNX bus"));
+        }
+        boolean absolute = isAbsolute(dpt, type);
+        PendingWrite write = absolute ? queue.replaceableWrites.get(groupAddress) : null;
+        if (write != null) {
+            logger.trace("Replacing queued value '{}' for group address '{}' with '{}'", write.type, groupAddress,
+                    type);
+            write.dpt = dpt;
+            write.type = type;
+            return write.future;
+        }
+        write = new PendingWrite(groupAddress, dpt, type);
+        queue.add(write, absolute);
+        if (!sending) {
+            sending = true;
+            int generation = this.generation;
+            executor.execute(() -> sendQueued(generation));
+        }
+        return write.future;
+    }
+
+    private void sendQueued(int generation) {
+        while (true) {
+            Sender sender;
+            PendingWrite write;
+            String dpt;
+            Type type;
+            boolean response;
+            synchronized (this) {
+                if (generation != this.generation) {
+                    return;
+                }
+                sender = this.sender;
+                response = !pendingResponses.isEmpty();
+                PendingWrites queue = response ? pendingResponses : pendingWrites;
+                if (sender == null || queue.isEmpty()) {
+                    sending = false;
+                    return;
+                }
+                write = queue.poll();
+                // values can't be replaced after removing them from the queue
+                dpt = write.dpt;
+                type = write.type;
+            }
+
+            try {
+                sender.send(write.groupAddress, dpt, type, response);
+                write.future.complete(null);
+            } catch (KNXException | RuntimeException e) {
+                write.future.completeExceptionally(e);
+            } catch (InterruptedException e) {
+                write.future.completeExceptionally(e);
+                Thread.currentThread().interrupt();
+                synchronized (this) {
+                    if (generation == this.generation) {
+                        sending = false;
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * check if a value can replace a queued value for the same group address
+     *
+     * @param dpt the datapoint type
+     * @param type the value
+     * @return true if the value is absolute, false if each value needs to be sent (relative values and triggers)
+     */
+    private static boolean isAbsolute(String dpt, Type type) {
+        if (type instanceof IncreaseDecreaseType || DPT_TRIGGER.equals(dpt)) {
+            return false;
+        }
+        int separator = dpt.indexOf('.');
+        return !RELATIVE_DPT_MAIN_NUMBERS.contains(separator == -1 ? dpt : dpt.substring(0, separator));
+    }
+
+    private static class PendingWrite {
+        private final CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+        private final GroupAddress groupAddress;
+        private String dpt;
+        private Type type;
+
+        public PendingWrite(GroupAddress groupAddress, String dpt, Type type) {
+            this.groupAddress = groupAddress;
+            this.dpt = dpt;
+            this.type = type;
+        }
+    }
+
+    /**
+     * The {@link PendingWrites} keeps the queued values in order and the last queued absolute value of each group
+     * address, which can still be replaced
+     */
+    private static class PendingWrites {
+        private final Deque<PendingWrite> writes = new ArrayDeque<>();
+        private final Map<GroupAddress, PendingWrite> replaceableWrites = new HashMap<>();
+
+        public void add(PendingWrite write, boolean replaceable) {
+            writes.add(write);
+            if (replaceable) {
+                replaceableWrites.put(write.groupAddress, write);
+            } else {
+                // later values must not be merged into a value that is sent before this one
+                replaceableWrites.remove(write.groupAddress);
+            }
+        }
+
+        public PendingWrite poll() {
+            PendingWrite write = writes.remove();
+            replaceableWrites.remove(write.groupAddress, write);
+            return write;
+        }
+
+        public boolean isEmpty() {
+            return writes.isEmpty();
+        }
+
+        public int size() {
+            return writes.size();
+        }
+
+        public void failAll(Exception e) {
+            writes.forEach(write -> write.future.completeExceptionally(e));
+            writes.clear();
+            replaceableWrites.clear();
+        }
+    }
+}
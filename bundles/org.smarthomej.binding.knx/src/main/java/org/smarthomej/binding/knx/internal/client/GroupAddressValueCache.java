@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+
+/**
+ * The {@link GroupAddressValueCache} stores the last value seen on the bus for each group address
+ *
+ * The cache is only valid as long as the connection to the bus is not interrupted, it needs to be cleared when the
+ * connection is lost.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressValueCache {
+    /** the maximum age of values replacing read requests if no read interval is configured */
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private final Map<GroupAddress, CachedValue> values = new ConcurrentHashMap<>();
+
+    /**
+     * store a value received from the bus
+     *
+     * @param groupAddress the destination of the telegram
+     * @param source the sender of the telegram
+     * @param asdu the value (must not be modified afterwards)
+     */
+    public void put(GroupAddress groupAddress, IndividualAddress source, byte[] asdu) {
+        put(groupAddress, source, asdu, System.nanoTime());
+    }
+
+    void put(GroupAddress groupAddress, IndividualAddress source, byte[] asdu, long timestamp) {
+        values.put(groupAddress, new CachedValue(source, asdu, timestamp));
+    }
+
+    /**
+     * get the last value seen on the bus
+     *
+     * @param groupAddress the group address
+     * @return the cached value or {@code null} if no value is known
+     */
+    public @Nullable CachedValue get(GroupAddress groupAddress) {
+        return values.get(groupAddress);
+    }
+
+    /**
+     * remove the value of a group address, e.g. because a value was sent without being received
+     *
+     * @param groupAddress the group address
+     */
+    public void invalidate(GroupAddress groupAddress) {
+        values.remove(groupAddress);
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * The {@link CachedValue} is a value received from the bus
+     */
+    public static class CachedValue {
+        private final IndividualAddress source;
+        private final byte[] asdu;
+        private final long timestamp;
+
+        private CachedValue(IndividualAddress source, byte[] asdu, long timestamp) {
+            this.source = source;
+            this.asdu = asdu;
+            this.timestamp = timestamp;
+        }
+
+        public IndividualAddress getSource() {
+            return source;
+        }
+
+        public byte[] getAsdu() {
+            return asdu;
+        }
+
+        /**
+         * get the time since the value was received
+         *
+         * @return the age of this value
+         */
+        public Duration getAge() {
+            return Duration.ofNanos(System.nanoTime() - timestamp);
+        }
+
+        /**
+         * check if this value can be used instead of sending a read request
+         *
+         * Values are never used for explicitly requested reads ({@link ReadPriority#REFRESH}). Devices may change
+         * their state without sending a telegram (or a telegram may be missed), so older values are not used either.
+         *
+         * @param priority the priority of the read request
+         * @param maxAge the maximum age of the value
+         * @return true if no read request is necessary
+         */
+        public boolean canReplaceRead(ReadPriority priority, Duration maxAge) {
+            return priority != ReadPriority.REFRESH && getAge().compareTo(maxAge) < 0;
+        }
+    }
+}
@@ -13,10 +13,13 @@
  */
 package org.smarthomej.binding.knx.internal.client;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
 
+import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.datapoint.Datapoint;
@@ -64,6 +67,8 @@ public interface KNXClient {
     /**
      * Register the given listener to be informed on KNX bus traffic.
      *
+     * Registering an already registered listener updates its group addresses.
+     *
      * @param listener the listener
      * @return {@code true} if it wasn't registered before
      */
@@ -80,23 +85,41 @@ public interface KNXClient {
     /**
      * Schedule the given data point for asynchronous reading.
      *
+     * Requests for a datapoint that is already scheduled are merged, the higher priority is used.
+     *
      * @param datapoint the datapoint
+     * @param priority the priority of the request
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
+
+    /**
+     * Get the last value seen on the bus for the given group address.
+     *
+     * @param groupAddress the group address
+     * @return the value or {@code null} if no value was received since the connection was established
+     */
+    GroupAddressValueCache.@Nullable CachedValue getCachedValue(GroupAddress groupAddress);
 
     /**
      * Write a command to the KNX bus.
      *
+     * The command is queued and sent asynchronously. If a command for the same group address is still waiting, it is
+     * replaced by this command.
+     *
      * @param commandSpec the outbound spec
-     * @throws KNXException if any problem with the communication arises.
+     * @return a future that completes when the command was sent or completes exceptionally with a
+     *         {@link KNXException} if any problem with the communication arises.
      */
-    void writeToKNX(OutboundSpec commandSpec) throws KNXException;
+    CompletableFuture<@Nullable Void> writeToKNX(OutboundSpec commandSpec);
 
     /**
      * Send a state as a read-response to the KNX bus.
      *
+     * The response is queued and sent asynchronously, before any queued commands.
+     *
      * @param responseSpec the outbound spec
-     * @throws KNXException if any problem with the communication arises.
+     * @return a future that completes when the response was sent or completes exceptionally with a
+     *         {@link KNXException} if any problem with the communication arises.
      */
-    void respondToKNX(OutboundSpec responseSpec) throws KNXException;
+    CompletableFuture<@Nullable Void> respondToKNX(OutboundSpec responseSpec);
 }
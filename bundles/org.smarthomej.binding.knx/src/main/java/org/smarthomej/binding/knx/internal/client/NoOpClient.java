@@ -13,10 +13,13 @@
  */
 package org.smarthomej.binding.knx.internal.client;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
 
+import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.datapoint.Datapoint;
@@ -60,14 +63,21 @@ public class NoOpClient implements KNXClient {
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+    }
+
+    @Override
+    public GroupAddressValueCache.@Nullable CachedValue getCachedValue(GroupAddress groupAddress) {
+        return null;
     }
 
     @Override
-    public void writeToKNX(OutboundSpec commandSpec) throws KNXException {
+    public CompletableFuture<@Nullable Void> writeToKNX(OutboundSpec commandSpec) {
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
-    public void respondToKNX(OutboundSpec responseSpec) throws KNXException {
+    public CompletableFuture<@Nullable Void> respondToKNX(OutboundSpec responseSpec) {
+        return CompletableFuture.completedFuture(null);
     }
 }
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.dpt;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPT;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * The {@link DPTConversionPlan} holds everything that is needed for converting values of a datapoint type and only
+ * depends on the datapoint type id
+ *
+ * Plans are shared by all type mappers. Translators are not thread-safe, so they are pooled and need to be acquired
+ * for each conversion and released afterwards.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class DPTConversionPlan {
+    private static final Map<String, DPTConversionPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final String id;
+    private final DPT dpt;
+    private final int mainNumber;
+    private final int subNumber;
+    private final Queue<DPTXlator> translators = new ConcurrentLinkedQueue<>();
+
+    private DPTConversionPlan(DPTXlator translator) {
+        this.dpt = translator.getType();
+        this.id = dpt.getID();
+        this.mainNumber = parseNumber(id, true);
+        this.subNumber = parseNumber(id, false);
+        translators.add(translator);
+    }
+
+    /**
+     * get the conversion plan for a datapoint type
+     *
+     * @param dptId the datapoint type id (e.g. "9.001")
+     * @return the conversion plan
+     * @throws KNXException if no translator is available for this datapoint type
+     */
+    public static DPTConversionPlan forDptId(@Nullable String dptId) throws KNXException {
+        if (dptId == null) {
+            throw new IllegalArgumentException("Parameter dptID cannot be null");
+        }
+        DPTConversionPlan plan = PLANS.get(dptId);
+        if (plan == null) {
+            // unknown ids are not stored, the translator creation fails with an exception
+            plan = new DPTConversionPlan(TranslatorTypes.createTranslator(0, dptId));
+            DPTConversionPlan existingPlan = PLANS.putIfAbsent(dptId, plan);
+            if (existingPlan != null) {
+                return existingPlan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * get the (normalized) datapoint type id of this plan
+     *
+     * @return the id as reported by the translator
+     */
+    public String getId() {
+        return id;
+    }
+
+    public DPT getDPT() {
+        return dpt;
+    }
+
+    /**
+     * get the main number of this datapoint type
+     *
+     * @return the main number or -1 if it can't be identified
+     */
+    public int getMainNumber() {
+        return mainNumber;
+    }
+
+    /**
+     * get the sub number of this datapoint type
+     *
+     * @return the sub number or -1 if it can't be identified
+     */
+    public int getSubNumber() {
+        return subNumber;
+    }
+
+    /**
+     * get a translator for exclusive use, it should be released after usage
+     *
+     * @return a translator for this datapoint type
+     * @throws KNXException if the translator can't be created
+     */
+    public DPTXlator acquireTranslator() throws KNXException {
+        DPTXlator translator = translators.poll();
+        return translator != null ? translator : TranslatorTypes.createTranslator(mainNumber, id);
+    }
+
+    /**
+     * return a translator to the pool
+     *
+     * @param translator a translator acquired from this plan
+     */
+    public void releaseTranslator(DPTXlator translator) {
+        translators.offer(translator);
+    }
+
+    private static int parseNumber(String dptId, boolean mainNumber) {
+        int dptSeparatorPosition = dptId.indexOf('.');
+        if (dptSeparatorPosition > 0) {
+            try {
+                return Integer.parseInt(mainNumber ? dptId.substring(0, dptSeparatorPosition)
+                        : dptId.substring(dptSeparatorPosition + 1));
+            } catch (NumberFormatException e) {
+                // return -1
+            }
+        }
+        return -1;
+    }
+}
@@ -16,6 +16,10 @@ package org.smarthomej.binding.knx.internal.handler;
 import static org.smarthomej.binding.knx.internal.KNXBindingConstants.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,8 +49,10 @@ import org.smarthomej.binding.knx.internal.KNXTypeMapper;
 import org.smarthomej.binding.knx.internal.channel.KNXChannelType;
 import org.smarthomej.binding.knx.internal.channel.KNXChannelTypes;
 import org.smarthomej.binding.knx.internal.client.AbstractKNXClient;
+import org.smarthomej.binding.knx.internal.client.GroupAddressValueCache;
 import org.smarthomej.binding.knx.internal.client.InboundSpec;
 import org.smarthomej.binding.knx.internal.client.OutboundSpec;
+import org.smarthomej.binding.knx.internal.client.ReadPriority;
 import org.smarthomej.binding.knx.internal.config.DeviceConfig;
 import org.smarthomej.binding.knx.internal.dpt.KNXCoreTypeMapper;
 
@@ -72,8 +78,11 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     private final Set<GroupAddress> groupAddresses = ConcurrentHashMap.newKeySet();
     private final Set<GroupAddress> groupAddressesWriteBlockedOnce = ConcurrentHashMap.newKeySet();
     private final Set<OutboundSpec> groupAddressesRespondingSpec = ConcurrentHashMap.newKeySet();
-    private final Map<GroupAddress, ScheduledFuture<?>> readFutures = new ConcurrentHashMap<>();
+    private @Nullable ScheduledFuture<?> pollingReadJob;
     private final Map<ChannelUID, ScheduledFuture<?>> channelFutures = new ConcurrentHashMap<>();
+    // channels by group address, built from the parsed channel configurations on initialization and link changes
+    private volatile Map<GroupAddress, List<ListeningChannel>> listeningChannels = Map.of();
+    private volatile Map<GroupAddress, List<Channel>> respondingChannels = Map.of();
     private int readInterval;
 
     public DeviceThingHandler(Thing thing) {
@@ -82,10 +91,11 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
 
     @Override
     public void initialize() {
-        super.initialize();
         DeviceConfig config = getConfigAs(DeviceConfig.class);
         readInterval = config.getReadInterval();
         initializeGroupAddresses();
+        // group addresses need to be known when registering at the client
+        super.initialize();
     }
 
     private void initializeGroupAddresses() {
@@ -94,6 +104,43 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
             groupAddresses.addAll(selector.getWriteAddresses(channelConfiguration));
             groupAddresses.addAll(selector.getListenAddresses(channelConfiguration));
         });
+        buildChannelIndex();
+    }
+
+    /**
+     * build the index of channels by group address, so telegrams can be dispatched without parsing the
+     * channel configurations
+     *
+     * State updates of unlinked channels are discarded anyway, so only linked channels are indexed for them. Control
+     * channels are always indexed, because they need to remember the values for answering read requests.
+     */
+    private synchronized void buildChannelIndex() {
+        Map<GroupAddress, List<ListeningChannel>> listeningChannels = new HashMap<>();
+        Map<GroupAddress, List<Channel>> respondingChannels = new HashMap<>();
+        for (Channel channel : getThing().getChannels()) {
+            boolean control = isControl(channel.getUID());
+            if (!control && !isLinked(channel.getUID().getId())) {
+                continue;
+            }
+            withKNXType(channel, (selector, configuration) -> {
+                Set<GroupAddress> channelGroupAddresses = new HashSet<>();
+                channelGroupAddresses.addAll(selector.getWriteAddresses(configuration));
+                channelGroupAddresses.addAll(selector.getListenAddresses(configuration));
+                for (GroupAddress groupAddress : channelGroupAddresses) {
+                    InboundSpec listenSpec = selector.getListenSpec(configuration, groupAddress);
+                    if (listenSpec != null) {
+                        listeningChannels.computeIfAbsent(groupAddress, k -> new ArrayList<>())
+                                .add(new ListeningChannel(channel, selector, listenSpec, control));
+                    }
+                    if (control && selector.getResponseSpec(configuration, groupAddress, RefreshType.REFRESH) != null) {
+                        respondingChannels.computeIfAbsent(groupAddress, k -> new ArrayList<>()).add(channel);
+                    }
+                }
+            });
+        }
+        this.listeningChannels = listeningChannels;
+        this.respondingChannels = respondingChannels;
+        logger.trace("Thing '{}' listens to {} group addresses", getThing().getUID(), listeningChannels.size());
     }
 
     @Override
@@ -113,6 +160,8 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     }
 
     private void freeGroupAddresses() {
+        listeningChannels = Map.of();
+        respondingChannels = Map.of();
         groupAddresses.clear();
         groupAddressesWriteBlockedOnce.clear();
         groupAddressesRespondingSpec.clear();
@@ -120,11 +169,10 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
 
     @Override
     protected void cancelReadFutures() {
-        for (GroupAddress groupAddress : readFutures.keySet()) {
-            readFutures.computeIfPresent(groupAddress, (k, v) -> {
-                v.cancel(true);
-                return null;
-            });
+        ScheduledFuture<?> pollingReadJob = this.pollingReadJob;
+        if (pollingReadJob != null) {
+            pollingReadJob.cancel(true);
+            this.pollingReadJob = null;
         }
     }
 
@@ -159,57 +207,91 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
 
     @Override
     public void channelLinked(ChannelUID channelUID) {
+        // the index needs to be updated before a cached value is applied to the channel
+        buildChannelIndex();
         if (!isControl(channelUID)) {
-            withKNXType(channelUID, this::scheduleRead);
+            withKNXType(channelUID,
+                    (selector, configuration) -> scheduleRead(selector, configuration, ReadPriority.INITIAL));
         }
     }
 
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        buildChannelIndex();
+    }
+
     @Override
     protected void scheduleReadJobs() {
         cancelReadFutures();
+        scheduleReads(ReadPriority.INITIAL);
+        if (readInterval > 0) {
+            // one job for all group addresses, the client queues and paces the requests
+            pollingReadJob = getScheduler().scheduleWithFixedDelay(() -> scheduleReads(ReadPriority.POLL),
+                    readInterval, readInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    private void scheduleReads(ReadPriority priority) {
         for (Channel channel : getThing().getChannels()) {
             if (isLinked(channel.getUID().getId()) && !isControl(channel.getUID())) {
-                withKNXType(channel, this::scheduleRead);
+                withKNXType(channel, (selector, configuration) -> scheduleRead(selector, configuration, priority));
             }
         }
     }
 
-    private void scheduleRead(KNXChannelType selector, Configuration configuration) throws KNXFormatException {
+    private void scheduleRead(KNXChannelType selector, Configuration configuration, ReadPriority priority)
+            throws KNXFormatException {
         List<InboundSpec> readSpecs = selector.getReadSpec(configuration);
         for (InboundSpec readSpec : readSpecs) {
             for (GroupAddress groupAddress : readSpec.getGroupAddresses()) {
-                scheduleReadJob(groupAddress, readSpec.getDPT());
-            }
-        }
-    }
-
-    private void scheduleReadJob(GroupAddress groupAddress, String dpt) {
-        if (readInterval > 0) {
-            ScheduledFuture<?> future = readFutures.get(groupAddress);
-            if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
-                        TimeUnit.SECONDS);
-                readFutures.put(groupAddress, future);
+                readDatapoint(groupAddress, readSpec.getDPT(), priority);
             }
-        } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
+    private void readDatapoint(GroupAddress groupAddress, String dpt, ReadPriority priority) {
         if (getClient().isConnected()) {
             if (!isDPTSupported(dpt)) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
                 return;
             }
+            if (readFromCache(groupAddress, priority)) {
+                return;
+            }
             Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+            getClient().readDatapoint(datapoint, priority);
         }
     }
 
+    /**
+     * use the last value seen on the bus instead of sending a read request
+     *
+     * @return true if no read request is necessary
+     */
+    private boolean readFromCache(GroupAddress groupAddress, ReadPriority priority) {
+        GroupAddressValueCache.CachedValue cachedValue = getClient().getCachedValue(groupAddress);
+        Duration maxAge = readInterval > 0 ? Duration.ofSeconds(readInterval) : GroupAddressValueCache.DEFAULT_MAX_AGE;
+        if (cachedValue == null || !cachedValue.canReplaceRead(priority, maxAge)) {
+            return false;
+        }
+        if (priority == ReadPriority.INITIAL) {
+            // the channels have not been updated with this value yet, the value is only applied as state to
+            // non-control channels (control channels would post commands for an old telegram)
+            logger.trace("Using cached value for group address '{}' received from '{}' {} ago", groupAddress,
+                    cachedValue.getSource(), cachedValue.getAge());
+            for (ListeningChannel listeningChannel : listeningChannels.getOrDefault(groupAddress, List.of())) {
+                if (!listeningChannel.control) {
+                    processDataReceived(groupAddress, cachedValue.getAsdu(), listeningChannel.listenSpec,
+                            listeningChannel.channel.getUID(), false);
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
-    public boolean listensTo(GroupAddress destination) {
-        return groupAddresses.contains(destination);
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
     }
 
     /** KNXIO remember controls, removeIf may be null */
@@ -232,7 +314,8 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         logger.trace("Handling command '{}' for channel '{}'", command, channelUID);
         if (command instanceof RefreshType && !isControl(channelUID)) {
             logger.debug("Refreshing channel '{}'", channelUID);
-            withKNXType(channelUID, this::scheduleRead);
+            withKNXType(channelUID,
+                    (selector, configuration) -> scheduleRead(selector, configuration, ReadPriority.REFRESH));
         } else {
             switch (channelUID.getId()) {
                 case CHANNEL_RESET:
@@ -246,7 +329,12 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
                         // only send GroupValueWrite to KNX if GA is not blocked once
                         if (commandSpec != null
                                 && !groupAddressesWriteBlockedOnce.remove(commandSpec.getGroupAddress())) {
-                            getClient().writeToKNX(commandSpec);
+                            getClient().writeToKNX(commandSpec).whenComplete((result, e) -> {
+                                if (e != null) {
+                                    logger.warn("Failed to send command '{}' of channel '{}': {}", command,
+                                            channelUID, e.getMessage());
+                                }
+                            });
                             if (isControl(channelUID)) {
                                 rememberRespondingSpec(commandSpec, true);
                             }
@@ -290,7 +378,12 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
                 if (os.isPresent()) {
                     logger.trace("onGroupRead respondToKNX '{}'", os.get().getGroupAddress());
                     /* KNXIO: sending real "GroupValueResponse" to the KNX bus. */
-                    getClient().respondToKNX(os.get());
+                    getClient().respondToKNX(os.get()).whenComplete((result, e) -> {
+                        if (e != null) {
+                            logger.warn("Failed to respond to read request for '{}' of channel '{}': {}", destination,
+                                    channel.getUID(), e.getMessage());
+                        }
+                    });
                 }
             });
         }
@@ -303,23 +396,15 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu) {
         logger.trace("onGroupRead Thing '{}' received a GroupValueRead telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
-        for (Channel channel : getThing().getChannels()) {
-            if (isControl(channel.getUID())) {
-                withKNXType(channel, (selector, configuration) -> {
-                    OutboundSpec responseSpec = selector.getResponseSpec(configuration, destination,
-                            RefreshType.REFRESH);
-                    if (responseSpec != null) {
-                        logger.trace("onGroupRead isControl -> postCommand");
-                        // This event should be sent to KNX as GroupValueResponse immediately.
-                        sendGroupValueResponse(channel, destination);
-                        // Send REFRESH to openHAB to get this event for scripting with postCommand
-                        // and remember to ignore/block this REFRESH to be sent back to KNX as GroupValueWrite after
-                        // postCommand is done!
-                        groupAddressesWriteBlockedOnce.add(destination);
-                        postCommand(channel.getUID().getId(), RefreshType.REFRESH);
-                    }
-                });
-            }
+        for (Channel channel : respondingChannels.getOrDefault(destination, List.of())) {
+            logger.trace("onGroupRead isControl -> postCommand");
+            // This event should be sent to KNX as GroupValueResponse immediately.
+            sendGroupValueResponse(channel, destination);
+            // Send REFRESH to openHAB to get this event for scripting with postCommand
+            // and remember to ignore/block this REFRESH to be sent back to KNX as GroupValueWrite after
+            // postCommand is done!
+            groupAddressesWriteBlockedOnce.add(destination);
+            postCommand(channel.getUID().getId(), RefreshType.REFRESH);
         }
     }
 
@@ -338,39 +423,44 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     @Override
     public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
             byte[] asdu) {
+        processGroupWrite(source, destination, asdu);
+    }
+
+    private void processGroupWrite(IndividualAddress source, GroupAddress destination, byte[] asdu) {
         logger.debug("onGroupWrite Thing '{}' received a GroupValueWrite telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
 
-        for (Channel channel : getThing().getChannels()) {
-            withKNXType(channel, (selector, configuration) -> {
-                InboundSpec listenSpec = selector.getListenSpec(configuration, destination);
-                if (listenSpec != null) {
-                    logger.trace(
-                            "onGroupWrite Thing '{}' processes a GroupValueWrite telegram for destination '{}' for channel '{}'",
-                            getThing().getUID(), destination, channel.getUID());
-                    /**
-                     * Remember current KNXIO outboundSpec only if it is a control channel.
-                     */
-                    if (isControl(channel.getUID())) {
-                        logger.trace("onGroupWrite isControl");
-                        Type type = typeHelper.toType(
-                                new CommandDP(destination, getThing().getUID().toString(), 0, listenSpec.getDPT()),
-                                asdu);
-                        if (type != null) {
-                            OutboundSpec commandSpec = selector.getCommandSpec(configuration, typeHelper, type);
-                            if (commandSpec != null) {
-                                rememberRespondingSpec(commandSpec, true);
-                            }
+        for (ListeningChannel listeningChannel : listeningChannels.getOrDefault(destination, List.of())) {
+            Channel channel = listeningChannel.channel;
+            InboundSpec listenSpec = listeningChannel.listenSpec;
+            logger.trace(
+                    "onGroupWrite Thing '{}' processes a GroupValueWrite telegram for destination '{}' for channel '{}'",
+                    getThing().getUID(), destination, channel.getUID());
+            /**
+             * Remember current KNXIO outboundSpec only if it is a control channel.
+             */
+            if (listeningChannel.control) {
+                logger.trace("onGroupWrite isControl");
+                Type type = typeHelper.toType(
+                        new CommandDP(destination, getThing().getUID().toString(), 0, listenSpec.getDPT()), asdu);
+                if (type != null) {
+                    try {
+                        OutboundSpec commandSpec = listeningChannel.selector.getCommandSpec(channel.getConfiguration(),
+                                typeHelper, type);
+                        if (commandSpec != null) {
+                            rememberRespondingSpec(commandSpec, true);
                         }
+                    } catch (KNXException e) {
+                        logger.warn("An error occurred on channel {}: {}", channel.getUID(), e.getMessage(), e);
                     }
-                    processDataReceived(destination, asdu, listenSpec, channel.getUID());
                 }
-            });
+            }
+            processDataReceived(destination, asdu, listenSpec, channel.getUID(), listeningChannel.control);
         }
     }
 
     private void processDataReceived(GroupAddress destination, byte[] asdu, InboundSpec listenSpec,
-            ChannelUID channelUID) {
+            ChannelUID channelUID, boolean control) {
         if (!isDPTSupported(listenSpec.getDPT())) {
             logger.warn("DPT '{}' is not supported by the KNX binding.", listenSpec.getDPT());
             return;
@@ -380,7 +470,7 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         Type type = typeHelper.toType(datapoint, asdu);
 
         if (type != null) {
-            if (isControl(channelUID)) {
+            if (control) {
                 Channel channel = getThing().getChannel(channelUID.getId());
                 Object repeat = channel != null ? channel.getConfiguration().get(KNXBindingConstants.REPEAT_FREQUENCY)
                         : null;
@@ -428,4 +518,21 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     private KNXChannelType getKNXChannelType(Channel channel) {
         return KNXChannelTypes.getType(channel.getChannelTypeUID());
     }
+
+    /**
+     * The {@link ListeningChannel} holds a linked channel and its parsed configuration for a group address
+     */
+    private static class ListeningChannel {
+        private final Channel channel;
+        private final KNXChannelType selector;
+        private final InboundSpec listenSpec;
+        private final boolean control;
+
+        public ListeningChannel(Channel channel, KNXChannelType selector, InboundSpec listenSpec, boolean control) {
+            this.channel = channel;
+            this.selector = selector;
+            this.listenSpec = listenSpec;
+            this.control = control;
+        }
+    }
 }
@@ -13,6 +13,8 @@
  */
 package org.smarthomej.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.smarthomej.binding.knx.internal.client.BusMessageListener;
 
@@ -29,9 +31,12 @@ import tuwien.auto.calimero.GroupAddress;
 public interface GroupAddressListener extends BusMessageListener {
 
     /**
-     * Called to verify if the GroupAddressListener has an interest in the given GroupAddress
+     * Get all GroupAddresses the GroupAddressListener has an interest in
+     *
+     * The client indexes its listeners by these addresses when they are registered. If the addresses change, the
+     * listener needs to be registered again.
      *
-     * @param destination
+     * @return the group addresses
      */
-    public boolean listensTo(GroupAddress destination);
+    public Set<GroupAddress> getGroupAddresses();
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.thing.ThingUID;
+import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.link.KNXNetworkLink;
+import tuwien.auto.calimero.process.ProcessEvent;
+
+/**
+ * The {@link AbstractKNXClientTest} is a test class for the group address dispatching of the
+ * {@link AbstractKNXClient}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class AbstractKNXClientTest {
+    private @NonNullByDefault({}) AbstractKNXClient client;
+
+    @BeforeEach
+    public void setup() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scheduler).execute(any(Runnable.class));
+        client = new AbstractKNXClient(0, new ThingUID("knx:ip:test"), 5, 50, 3, scheduler,
+                mock(StatusUpdateCallback.class)) {
+            @Override
+            protected KNXNetworkLink establishConnection() throws KNXException {
+                throw new KNXException("not connected");
+            }
+        };
+    }
+
+    @Test
+    public void telegramsAreDispatchedToListenersOfTheGroupAddress() throws KNXFormatException {
+        TestListener first = new TestListener("1/1/1", "1/1/2");
+        TestListener second = new TestListener("1/1/2");
+        assertTrue(client.registerGroupAddressListener(first));
+        assertTrue(client.registerGroupAddressListener(second));
+
+        client.processListener.groupWrite(event("1/1/1"));
+        client.processListener.groupReadRequest(event("1/1/2"));
+        client.processListener.groupReadResponse(event("1/1/3"));
+
+        assertEquals(List.of("write 1/1/1", "read 1/1/2"), first.received);
+        assertEquals(List.of("read 1/1/2"), second.received);
+    }
+
+    @Test
+    public void registeringAgainUpdatesTheGroupAddresses() throws KNXFormatException {
+        TestListener listener = new TestListener("1/1/1");
+        assertTrue(client.registerGroupAddressListener(listener));
+        listener.groupAddresses = Set.of(new GroupAddress("1/1/2"));
+        assertFalse(client.registerGroupAddressListener(listener));
+
+        client.processListener.groupWrite(event("1/1/1"));
+        client.processListener.groupReadResponse(event("1/1/2"));
+
+        assertEquals(List.of("response 1/1/2"), listener.received);
+    }
+
+    @Test
+    public void unregisteredListenersAreNotNotified() throws KNXFormatException {
+        TestListener first = new TestListener("1/1/1");
+        TestListener second = new TestListener("1/1/1");
+        client.registerGroupAddressListener(first);
+        client.registerGroupAddressListener(second);
+        assertTrue(client.unregisterGroupAddressListener(first));
+        assertFalse(client.unregisterGroupAddressListener(first));
+
+        client.processListener.groupWrite(event("1/1/1"));
+
+        assertEquals(List.of(), first.received);
+        assertEquals(List.of("write 1/1/1"), second.received);
+    }
+
+    @Test
+    public void failingListenerDoesNotAffectOthers() throws KNXFormatException {
+        TestListener failing = new TestListener("1/1/1") {
+            @Override
+            public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                    byte[] asdu) {
+                throw new IllegalStateException("test");
+            }
+        };
+        TestListener listener = new TestListener("1/1/1");
+        client.registerGroupAddressListener(failing);
+        client.registerGroupAddressListener(listener);
+
+        client.processListener.groupWrite(event("1/1/1"));
+
+        assertEquals(List.of("write 1/1/1"), listener.received);
+    }
+
+    private ProcessEvent event(String groupAddress) throws KNXFormatException {
+        ProcessEvent event = mock(ProcessEvent.class);
+        when(event.getDestination()).thenReturn(new GroupAddress(groupAddress));
+        when(event.getSourceAddr()).thenReturn(new IndividualAddress("1.1.1"));
+        when(event.getASDU()).thenReturn(new byte[] { 1 });
+        return event;
+    }
+
+    private static class TestListener implements GroupAddressListener {
+        private final List<String> received = new ArrayList<>();
+        private Set<GroupAddress> groupAddresses;
+
+        public TestListener(String... groupAddresses) throws KNXFormatException {
+            Set<GroupAddress> addresses = new HashSet<>();
+            for (String groupAddress : groupAddresses) {
+                addresses.add(new GroupAddress(groupAddress));
+            }
+            this.groupAddresses = addresses;
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+            received.add("write " + destination);
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+            received.add("read " + destination);
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+            received.add("response " + destination);
+        }
+    }
+}
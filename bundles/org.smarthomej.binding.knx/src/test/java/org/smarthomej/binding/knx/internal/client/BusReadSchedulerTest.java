@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link BusReadSchedulerTest} is a test class for the {@link BusReadScheduler}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class BusReadSchedulerTest {
+    private final List<Runnable> jobs = new ArrayList<>();
+    private final List<GroupAddress> reads = new ArrayList<>();
+
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setup() {
+        jobs.clear();
+        reads.clear();
+        scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            jobs.add(invocation.getArgument(0));
+            return mock(ScheduledFuture.class);
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void requestsAreOrderedByPriorityAndMerged() throws KNXFormatException {
+        BusReadScheduler readScheduler = new BusReadScheduler(scheduler, 50, 3);
+        readScheduler.schedule(datapoint("1/1/1"), ReadPriority.POLL);
+        readScheduler.schedule(datapoint("1/1/2"), ReadPriority.POLL);
+        readScheduler.schedule(datapoint("1/1/3"), ReadPriority.INITIAL);
+        readScheduler.schedule(datapoint("1/1/2"), ReadPriority.REFRESH);
+        readScheduler.schedule(datapoint("1/1/3"), ReadPriority.POLL);
+        assertEquals(3, readScheduler.getQueueDepth());
+
+        readScheduler.start(this::read);
+        runJobs();
+
+        assertEquals(List.of(new GroupAddress("1/1/2"), new GroupAddress("1/1/3"), new GroupAddress("1/1/1")), reads);
+        assertEquals(0, readScheduler.getQueueDepth());
+    }
+
+    @Test
+    public void failedRequestsAreRetried() throws KNXFormatException {
+        BusReadScheduler readScheduler = new BusReadScheduler(scheduler, 50, 2);
+        readScheduler.start(datapoint -> {
+            read(datapoint);
+            throw new KNXException("failed");
+        });
+        readScheduler.schedule(datapoint("1/1/1"), ReadPriority.INITIAL);
+        runJobs();
+
+        assertEquals(List.of(new GroupAddress("1/1/1"), new GroupAddress("1/1/1")), reads);
+        assertEquals(0, readScheduler.getQueueDepth());
+    }
+
+    @Test
+    public void requestsAreKeptIfBusNotAvailable() throws KNXFormatException {
+        BusReadScheduler readScheduler = new BusReadScheduler(scheduler, 50, 2);
+        readScheduler.start(datapoint -> false);
+        readScheduler.schedule(datapoint("1/1/1"), ReadPriority.INITIAL);
+        jobs.remove(0).run();
+
+        assertEquals(1, readScheduler.getQueueDepth());
+        assertTrue(readScheduler.getPause() > 50);
+
+        readScheduler.stop();
+        assertEquals(0, readScheduler.getQueueDepth());
+    }
+
+    private boolean read(Datapoint datapoint) {
+        reads.add(datapoint.getMainAddress());
+        return true;
+    }
+
+    private void runJobs() {
+        while (!jobs.isEmpty()) {
+            jobs.remove(0).run();
+        }
+    }
+
+    private static Datapoint datapoint(String groupAddress) throws KNXFormatException {
+        return new CommandDP(new GroupAddress(groupAddress), "test", 0, "1.001");
+    }
+}
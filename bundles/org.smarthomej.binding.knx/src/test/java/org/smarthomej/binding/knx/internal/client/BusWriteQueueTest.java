@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.types.Type;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.KNXFormatException;
+
+/**
+ * The {@link BusWriteQueueTest} is a test class for the {@link BusWriteQueue}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class BusWriteQueueTest {
+    private final List<Runnable> jobs = new ArrayList<>();
+    private final List<String> sent = new ArrayList<>();
+
+    private @NonNullByDefault({}) BusWriteQueue writeQueue;
+
+    @BeforeEach
+    public void setup() {
+        jobs.clear();
+        sent.clear();
+        writeQueue = new BusWriteQueue(jobs::add);
+    }
+
+    @Test
+    public void valuesForSameGroupAddressAreMerged() throws KNXFormatException {
+        writeQueue.start(this::send);
+        CompletableFuture<@Nullable Void> first = writeQueue.write(new GroupAddress("1/1/1"), "5.001",
+                new DecimalType(10));
+        writeQueue.write(new GroupAddress("1/1/2"), "5.001", new DecimalType(20));
+        CompletableFuture<@Nullable Void> second = writeQueue.write(new GroupAddress("1/1/1"), "5.001",
+                new DecimalType(30));
+        assertSame(first, second);
+        assertEquals(2, writeQueue.getQueueDepth());
+
+        runJobs();
+
+        assertEquals(List.of("1/1/1=30", "1/1/2=20"), sent);
+        assertTrue(first.isDone());
+        assertFalse(first.isCompletedExceptionally());
+    }
+
+    @Test
+    public void relativeStepsAreNotMerged() throws KNXFormatException {
+        writeQueue.start(this::send);
+        CompletableFuture<@Nullable Void> first = writeQueue.write(new GroupAddress("1/1/1"), "3.007",
+                IncreaseDecreaseType.INCREASE);
+        CompletableFuture<@Nullable Void> second = writeQueue.write(new GroupAddress("1/1/1"), "3.007",
+                IncreaseDecreaseType.INCREASE);
+        assertNotSame(first, second);
+        assertEquals(2, writeQueue.getQueueDepth());
+
+        runJobs();
+
+        assertEquals(List.of("1/1/1=INCREASE", "1/1/1=INCREASE"), sent);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+    }
+
+    @Test
+    public void valuesAreNotMergedAcrossTriggers() throws KNXFormatException {
+        writeQueue.start(this::send);
+        writeQueue.write(new GroupAddress("1/1/1"), "5.001", new DecimalType(10));
+        writeQueue.write(new GroupAddress("1/1/1"), "18.001", new DecimalType(1));
+        writeQueue.write(new GroupAddress("1/1/1"), "5.001", new DecimalType(20));
+        writeQueue.write(new GroupAddress("1/1/1"), "5.001", new DecimalType(30));
+
+        runJobs();
+
+        assertEquals(List.of("1/1/1=10", "1/1/1=1", "1/1/1=30"), sent);
+    }
+
+    @Test
+    public void responsesAreSentFirst() throws KNXFormatException {
+        writeQueue.start(this::send);
+        writeQueue.write(new GroupAddress("1/1/1"), "5.001", new DecimalType(10));
+        writeQueue.respond(new GroupAddress("1/1/1"), "5.001", new DecimalType(20));
+
+        runJobs();
+
+        assertEquals(List.of("1/1/1=20 (response)", "1/1/1=10"), sent);
+    }
+
+    @Test
+    public void failuresAreReported() throws KNXFormatException {
+        assertTrue(writeQueue.write(new GroupAddress("1/1/1"), "5.001", new DecimalType(10))
+                .isCompletedExceptionally());
+
+        writeQueue.start((groupAddress, dpt, type, response) -> {
+            throw new KNXException("failed");
+        });
+        CompletableFuture<@Nullable Void> failed = writeQueue.write(new GroupAddress("1/1/1"), "5.001",
+                new DecimalType(10));
+        runJobs();
+        assertTrue(failed.isCompletedExceptionally());
+
+        CompletableFuture<@Nullable Void> discarded = writeQueue.write(new GroupAddress("1/1/1"), "5.001",
+                new DecimalType(10));
+        writeQueue.stop();
+        assertTrue(discarded.isCompletedExceptionally());
+        assertEquals(0, writeQueue.getQueueDepth());
+    }
+
+    @Test
+    public void interruptIsPreserved() throws KNXFormatException {
+        writeQueue.start((groupAddress, dpt, type, response) -> {
+            throw new InterruptedException();
+        });
+        CompletableFuture<@Nullable Void> future = writeQueue.write(new GroupAddress("1/1/1"), "5.001",
+                new DecimalType(10));
+
+        runJobs();
+
+        assertTrue(future.isCompletedExceptionally());
+        // clears the flag for the following tests
+        assertTrue(Thread.interrupted());
+    }
+
+    private void send(GroupAddress groupAddress, String dpt, Type type, boolean response) {
+        sent.add(groupAddress + "=" + type + (response ? " (response)" : ""));
+    }
+
+    private void runJobs() {
+        while (!jobs.isEmpty()) {
+            jobs.remove(0).run();
+        }
+    }
+}
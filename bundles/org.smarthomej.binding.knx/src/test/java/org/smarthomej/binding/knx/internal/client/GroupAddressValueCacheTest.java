@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+import tuwien.auto.calimero.KNXFormatException;
+
+/**
+ * The {@link GroupAddressValueCacheTest} is a test class for the {@link GroupAddressValueCache}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressValueCacheTest {
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    private final GroupAddressValueCache cache = new GroupAddressValueCache();
+
+    @Test
+    public void lastValueIsStored() throws KNXFormatException {
+        GroupAddress groupAddress = new GroupAddress("1/1/1");
+        cache.put(groupAddress, new IndividualAddress("1.1.1"), new byte[] { 1 });
+        cache.put(groupAddress, new IndividualAddress("1.1.2"), new byte[] { 2 });
+        cache.put(new GroupAddress("1/1/2"), new IndividualAddress("1.1.1"), new byte[] { 3 });
+
+        GroupAddressValueCache.CachedValue cachedValue = cache.get(groupAddress);
+        assertNotNull(cachedValue);
+        assertEquals(new IndividualAddress("1.1.2"), cachedValue.getSource());
+        assertArrayEquals(new byte[] { 2 }, cachedValue.getAsdu());
+        assertEquals(2, cache.size());
+        assertNull(cache.get(new GroupAddress("1/1/3")));
+    }
+
+    @Test
+    public void invalidateRemovesSingleValue() throws KNXFormatException {
+        cache.put(new GroupAddress("1/1/1"), new IndividualAddress("1.1.1"), new byte[] { 1 });
+        cache.put(new GroupAddress("1/1/2"), new IndividualAddress("1.1.1"), new byte[] { 2 });
+
+        cache.invalidate(new GroupAddress("1/1/1"));
+
+        assertNull(cache.get(new GroupAddress("1/1/1")));
+        assertNotNull(cache.get(new GroupAddress("1/1/2")));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void clearRemovesAllValues() throws KNXFormatException {
+        cache.put(new GroupAddress("1/1/1"), new IndividualAddress("1.1.1"), new byte[] { 1 });
+        cache.put(new GroupAddress("1/1/2"), new IndividualAddress("1.1.1"), new byte[] { 2 });
+
+        cache.clear();
+
+        assertNull(cache.get(new GroupAddress("1/1/1")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void recentValuesReplaceInitialAndPeriodicReads() throws KNXFormatException {
+        GroupAddressValueCache.CachedValue cachedValue = putWithAge(Duration.ofMinutes(1));
+
+        assertTrue(cachedValue.canReplaceRead(ReadPriority.INITIAL, MAX_AGE));
+        assertTrue(cachedValue.canReplaceRead(ReadPriority.POLL, MAX_AGE));
+        assertFalse(cachedValue.canReplaceRead(ReadPriority.REFRESH, MAX_AGE));
+    }
+
+    @Test
+    public void oldValuesDoNotReplaceReads() throws KNXFormatException {
+        GroupAddressValueCache.CachedValue cachedValue = putWithAge(Duration.ofMinutes(11));
+
+        assertFalse(cachedValue.canReplaceRead(ReadPriority.INITIAL, MAX_AGE));
+        assertFalse(cachedValue.canReplaceRead(ReadPriority.POLL, MAX_AGE));
+        assertFalse(cachedValue.canReplaceRead(ReadPriority.REFRESH, MAX_AGE));
+    }
+
+    private GroupAddressValueCache.CachedValue putWithAge(Duration age) throws KNXFormatException {
+        GroupAddress groupAddress = new GroupAddress("1/1/1");
+        cache.put(groupAddress, new IndividualAddress("1.1.1"), new byte[] { 1 }, System.nanoTime() - age.toNanos());
+        GroupAddressValueCache.CachedValue cachedValue = cache.get(groupAddress);
+        assertNotNull(cachedValue);
+        return cachedValue;
+    }
+}
@@ -18,6 +18,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.types.Type;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
 
 /**
  *
@@ -32,4 +39,29 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    @Test
+    public void testConversionPlanIsShared() throws KNXException {
+        DPTConversionPlan plan = DPTConversionPlan.forDptId("9.001");
+        assertSame(plan, DPTConversionPlan.forDptId("9.001"));
+        assertEquals(9, plan.getMainNumber());
+        assertEquals(1, plan.getSubNumber());
+        assertThrows(KNXException.class, () -> DPTConversionPlan.forDptId("999.999"));
+    }
+
+    @Test
+    public void testToTypeWithReusedTranslators() throws KNXException {
+        Datapoint datapoint = new CommandDP(new GroupAddress("1/2/3"), "test", 0, "9.001");
+        for (int i = 0; i < 3; i++) {
+            Type type = new KNXCoreTypeMapper().toType(datapoint, new byte[] { 0x0c, 0x33 });
+            assertTrue(type instanceof DecimalType);
+            assertEquals(21.5, ((DecimalType) type).doubleValue(), 0.001);
+        }
+
+        Datapoint switchDatapoint = new CommandDP(new GroupAddress("1/2/4"), "test", 0, "1.001");
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(OnOffType.ON, mapper.toType(switchDatapoint, new byte[] { 0x01 }));
+        assertEquals(OnOffType.OFF, mapper.toType(switchDatapoint, new byte[] { 0x00 }));
+        assertEquals("on", mapper.toDPTValue(OnOffType.ON, "1.001"));
+    }
 }
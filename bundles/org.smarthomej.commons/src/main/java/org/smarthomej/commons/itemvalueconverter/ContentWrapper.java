@@ -22,6 +22,8 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * The {@link ContentWrapper} defines the pre-processed response
  *
+ * The content is decoded only once, the resulting string is shared between all consumers of this content.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -29,6 +31,7 @@ public class ContentWrapper {
     private final byte[] rawContent;
     private final Charset encoding;
     private final @Nullable String mediaType;
+    private volatile @Nullable String stringContent;
 
     public ContentWrapper(byte[] rawContent, String encoding, @Nullable String mediaType) {
         this.rawContent = rawContent;
@@ -47,7 +50,13 @@ public class ContentWrapper {
     }
 
     public String getAsString() {
-        return new String(rawContent, encoding);
+        String stringContent = this.stringContent;
+        if (stringContent == null) {
+            // concurrent calls may decode twice, but the result is always the same
+            stringContent = new String(rawContent, encoding);
+            this.stringContent = stringContent;
+        }
+        return stringContent;
     }
 
     public @Nullable String getMediaType() {
@@ -41,7 +41,7 @@ public class CascadedValueTransformation implements ValueTransformation {
         List<ValueTransformation> transformations;
         try {
             transformations = Arrays.stream(transformationString.split("∩")).filter(s -> !s.isEmpty())
-                    .map(transformation -> new SingleValueTransformation(transformation, transformationServiceSupplier))
+                    .map(transformation -> createTransformation(transformation, transformationServiceSupplier))
                     .collect(Collectors.toList());
         } catch (IllegalArgumentException e) {
             transformations = List.of(NoOpValueTransformation.getInstance());
@@ -50,6 +50,39 @@ public class CascadedValueTransformation implements ValueTransformation {
         this.transformations = transformations;
     }
 
+    /**
+     * create a transformation from a single pattern
+     *
+     * JSONPATH and XPATH patterns are evaluated on a shared parsed document, all others use the transformation service
+     *
+     * @param pattern the pattern (service name and transformation separated by a colon)
+     * @param transformationServiceSupplier supplier for the transformation service
+     * @return the transformation
+     */
+    private static ValueTransformation createTransformation(String pattern,
+            Function<String, @Nullable TransformationService> transformationServiceSupplier) {
+        SingleValueTransformation transformation = new SingleValueTransformation(pattern,
+                transformationServiceSupplier);
+        String expression = pattern.substring(pattern.indexOf(':') + 1);
+        switch (transformation.getServiceName()) {
+            case "JSONPATH":
+                if (JsonPathValueTransformation.isSupported(expression)) {
+                    return new JsonPathValueTransformation(expression, transformation);
+                }
+                break;
+            case "XPATH":
+                try {
+                    return new XPathValueTransformation(expression, transformation);
+                } catch (IllegalArgumentException e) {
+                    // the service will report the error
+                }
+                break;
+            default:
+                break;
+        }
+        return transformation;
+    }
+
     @Override
     public Optional<String> apply(String value) {
         Optional<String> valueOptional = Optional.of(value);
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The {@link JsonPathValueTransformation} evaluates simple JSONPATH expressions (e.g. {@code $.a.b[0]['c']}) on a
+ * shared, parsed copy of the document. Expressions that can't be evaluated here (filters, wildcards, results that are
+ * not primitive values, ...) are delegated to the JSONPATH transformation service.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class JsonPathValueTransformation implements ValueTransformation {
+    private static final ParsedDocumentCache<JsonElement> DOCUMENT_CACHE = new ParsedDocumentCache<>(8,
+            Duration.ofSeconds(10), content -> {
+                try {
+                    return JsonParser.parseString(content);
+                } catch (JsonParseException e) {
+                    return null;
+                }
+            });
+
+    private final List<Object> path;
+    private final ValueTransformation delegate;
+
+    /**
+     * Creates a new JSONPATH transformation
+     *
+     * @param expression the JSONPATH expression
+     * @param delegate the transformation used if the expression can't be evaluated on the parsed document
+     * @throws IllegalArgumentException if the expression is not supported
+     */
+    public JsonPathValueTransformation(String expression, ValueTransformation delegate) {
+        this.path = parsePath(expression.trim());
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<String> apply(String value) {
+        Optional<JsonElement> document = DOCUMENT_CACHE.get(value);
+        if (document.isEmpty()) {
+            return delegate.apply(value);
+        }
+
+        JsonElement element = document.get();
+        for (Object key : path) {
+            if (key instanceof String && element.isJsonObject()) {
+                element = element.getAsJsonObject().get((String) key);
+            } else if (key instanceof Integer && element.isJsonArray()
+                    && (Integer) key < element.getAsJsonArray().size()) {
+                element = element.getAsJsonArray().get((Integer) key);
+            } else {
+                element = null;
+            }
+            if (element == null) {
+                // let the service create the proper error
+                return delegate.apply(value);
+            }
+        }
+
+        if (element.isJsonNull()) {
+            return Optional.empty();
+        } else if (element.isJsonPrimitive()) {
+            return Optional.of(primitiveToString(element.getAsJsonPrimitive()));
+        }
+
+        // objects and arrays are formatted by the service
+        return delegate.apply(value);
+    }
+
+    /**
+     * check if an expression can be evaluated by this transformation
+     *
+     * @param expression the JSONPATH expression
+     * @return true if supported
+     */
+    public static boolean isSupported(String expression) {
+        try {
+            parsePath(expression.trim());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String primitiveToString(JsonPrimitive primitive) {
+        if (primitive.isNumber()) {
+            // format like the JSONPATH service, which parses integers as integers and decimals as double
+            String number = primitive.getAsString();
+            try {
+                if (number.contains(".") || number.contains("e") || number.contains("E")) {
+                    return Double.toString(Double.parseDouble(number));
+                }
+                return new BigInteger(number).toString();
+            } catch (NumberFormatException e) {
+                return number;
+            }
+        }
+        return primitive.getAsString();
+    }
+
+    private static List<Object> parsePath(String expression) {
+        if (!expression.startsWith("$")) {
+            throw new IllegalArgumentException("Expression needs to start with '$'");
+        }
+        List<Object> path = new ArrayList<>();
+        int pos = 1;
+        while (pos < expression.length()) {
+            char c = expression.charAt(pos);
+            if (c == '.') {
+                int end = pos + 1;
+                while (end < expression.length() && expression.charAt(end) != '.'
+                        && expression.charAt(end) != '[') {
+                    end++;
+                }
+                path.add(checkName(expression.substring(pos + 1, end)));
+                pos = end;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', pos);
+                if (end == -1) {
+                    throw new IllegalArgumentException("Missing ']'");
+                }
+                String key = expression.substring(pos + 1, end).trim();
+                if (key.length() >= 2 && (key.startsWith("'") && key.endsWith("'")
+                        || key.startsWith("\"") && key.endsWith("\""))) {
+                    path.add(checkName(key.substring(1, key.length() - 1)));
+                } else {
+                    try {
+                        int index = Integer.parseInt(key);
+                        if (index < 0) {
+                            throw new IllegalArgumentException("Negative index not supported");
+                        }
+                        path.add(index);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Unsupported index '" + key + "'");
+                    }
+                }
+                pos = end + 1;
+            } else {
+                throw new IllegalArgumentException("Unexpected character '" + c + "'");
+            }
+        }
+        return path;
+    }
+
+    private static String checkName(String name) {
+        if (name.isEmpty() || name.contains("*") || name.contains("(") || name.contains("'")
+                || name.contains("\"") || name.contains(",") || name.contains("]")) {
+            throw new IllegalArgumentException("Unsupported name '" + name + "'");
+        }
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonPathValueTransformation{path=" + path + "}";
+    }
+}
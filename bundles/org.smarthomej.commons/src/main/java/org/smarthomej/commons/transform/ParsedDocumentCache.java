@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.lang.ref.SoftReference;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ParsedDocumentCache} holds the parsed representation of the most recently transformed documents
+ *
+ * All channels that transform the same content (e.g. the response of a single URL) share the same parsed document, so
+ * each document is parsed only once. The cache is only meant to share a document between the transformations of one
+ * response: entries expire after a short time and are only softly referenced, so large responses are not kept after
+ * they have been processed.
+ *
+ * @param <T> the type of the parsed document
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class ParsedDocumentCache<T> {
+    private final int maxSize;
+    private final long maxAge;
+    private final Function<String, @Nullable T> parser;
+    // most recently added entry first
+    private final Deque<SoftReference<Entry<T>>> entries = new ArrayDeque<>();
+
+    /**
+     * create a new cache
+     *
+     * @param maxSize the maximum number of documents in this cache
+     * @param maxAge the time after which a document is removed from the cache
+     * @param parser the parser (returns null if parsing failed)
+     */
+    public ParsedDocumentCache(int maxSize, Duration maxAge, Function<String, @Nullable T> parser) {
+        this.maxSize = maxSize;
+        this.maxAge = maxAge.toNanos();
+        this.parser = parser;
+    }
+
+    /**
+     * get the parsed document
+     *
+     * @param content the raw document
+     * @return Optional of the parsed document (empty if parsing failed)
+     */
+    public Optional<T> get(String content) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Iterator<SoftReference<Entry<T>>> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next().get();
+                if (entry == null || now - entry.timestamp >= maxAge) {
+                    iterator.remove();
+                } else if (entry.content.equals(content)) {
+                    return entry.document;
+                }
+            }
+        }
+        // parse outside the lock, concurrent calls for the same content at most parse twice
+        Optional<T> document = Optional.ofNullable(parser.apply(content));
+        synchronized (entries) {
+            entries.addFirst(new SoftReference<>(new Entry<>(content, document, now)));
+            while (entries.size() > maxSize) {
+                entries.removeLast();
+            }
+        }
+        return document;
+    }
+
+    /**
+     * get the number of documents in the cache (including expired ones that have not been removed yet)
+     *
+     * @return the number of documents
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class Entry<T> {
+        private final String content;
+        private final Optional<T> document;
+        private final long timestamp;
+
+        public Entry(String content, Optional<T> document, long timestamp) {
+            this.content = content;
+            this.document = document;
+            this.timestamp = timestamp;
+        }
+    }
+}
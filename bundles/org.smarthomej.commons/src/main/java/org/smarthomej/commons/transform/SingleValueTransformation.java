@@ -13,7 +13,6 @@
  */
 package org.smarthomej.commons.transform;
 
-import java.lang.ref.WeakReference;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -34,7 +33,6 @@ import org.slf4j.LoggerFactory;
 public class SingleValueTransformation implements ValueTransformation {
     private final Logger logger = LoggerFactory.getLogger(SingleValueTransformation.class);
     private final Function<String, @Nullable TransformationService> transformationServiceSupplier;
-    private WeakReference<@Nullable TransformationService> transformationService = new WeakReference<>(null);
     private final String pattern;
     private final String serviceName;
 
@@ -59,14 +57,11 @@ public class SingleValueTransformation implements ValueTransformation {
 
     @Override
     public Optional<String> apply(String value) {
-        TransformationService transformationService = this.transformationService.get();
+        // the service is requested on every call, so that service changes are picked up
+        TransformationService transformationService = transformationServiceSupplier.apply(serviceName);
         if (transformationService == null) {
-            transformationService = transformationServiceSupplier.apply(serviceName);
-            if (transformationService == null) {
-                logger.warn("Transformation service {} for pattern {} not found!", serviceName, pattern);
-                return Optional.empty();
-            }
-            this.transformationService = new WeakReference<>(transformationService);
+            logger.warn("Transformation service {} for pattern {} not found!", serviceName, pattern);
+            return Optional.empty();
         }
 
         try {
@@ -83,6 +78,15 @@ public class SingleValueTransformation implements ValueTransformation {
         return Optional.empty();
     }
 
+    /**
+     * get the name of the transformation service
+     *
+     * @return the service name (upper case)
+     */
+    public String getServiceName() {
+        return serviceName;
+    }
+
     @Override
     public String toString() {
         return "ChannelStateTransformation{pattern='" + pattern + "', serviceName='" + serviceName + "'}";
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The {@link XPathValueTransformation} evaluates XPATH expressions on a shared, parsed copy of the document. If the
+ * document can't be parsed or the evaluation fails, the XPATH transformation service is used.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class XPathValueTransformation implements ValueTransformation {
+    private static final ParsedDocumentCache<Document> DOCUMENT_CACHE = new ParsedDocumentCache<>(8,
+            Duration.ofSeconds(10), XPathValueTransformation::parseDocument);
+
+    private final String expressionString;
+    private final XPathExpression expression;
+    private final ValueTransformation delegate;
+
+    /**
+     * Creates a new XPATH transformation
+     *
+     * @param expression the XPATH expression
+     * @param delegate the transformation used if the expression can't be evaluated on the parsed document
+     * @throws IllegalArgumentException if the expression can't be compiled
+     */
+    public XPathValueTransformation(String expression, ValueTransformation delegate) {
+        try {
+            this.expression = XPathFactory.newInstance().newXPath().compile(expression);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Failed to compile '" + expression + "'", e);
+        }
+        this.expressionString = expression;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<String> apply(String value) {
+        Optional<Document> document = DOCUMENT_CACHE.get(value);
+        if (document.isEmpty()) {
+            return delegate.apply(value);
+        }
+
+        Document doc = document.get();
+        try {
+            // neither DOM nor compiled expressions are thread-safe
+            synchronized (doc) {
+                synchronized (expression) {
+                    return Optional.ofNullable((String) expression.evaluate(doc, XPathConstants.STRING));
+                }
+            }
+        } catch (XPathExpressionException e) {
+            return delegate.apply(value);
+        }
+    }
+
+    private static @Nullable Document parseDocument(String content) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setValidating(false);
+            factory.setNamespaceAware(true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            // do not resolve external entities
+            builder.setEntityResolver((publicId, systemId) -> new InputSource(new StringReader("")));
+            // prevent the default handler from printing errors to stderr
+            builder.setErrorHandler(new DefaultHandler());
+            return builder.parse(new InputSource(new StringReader(content)));
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "XPathValueTransformation{expression='" + expressionString + "'}";
+    }
+}
@@ -12,13 +12,20 @@
  */
 package org.smarthomej.commons.transform.internal;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.core.transform.TransformationHelper;
-import org.osgi.framework.BundleContext;
-import org.osgi.service.component.ComponentContext;
-import org.osgi.service.component.annotations.Activate;
+import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.smarthomej.commons.transform.CascadedValueTransformation;
 import org.smarthomej.commons.transform.NoOpValueTransformation;
 import org.smarthomej.commons.transform.ValueTransformation;
@@ -28,18 +35,46 @@ import org.smarthomej.commons.transform.ValueTransformationProvider;
  * The {@link ValueTransformationProviderImpl} implements
  * {@link org.smarthomej.commons.transform.ValueTransformationProvider}
  *
+ * Compiled transformations are cached by pattern. The transformation services are tracked by this component, so
+ * cached transformations always use the currently available service.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 @Component(service = ValueTransformationProvider.class)
 public class ValueTransformationProviderImpl implements ValueTransformationProvider {
+    private static final int MAX_CACHE_SIZE = 500;
 
-    private final BundleContext bundleContext;
+    private final Logger logger = LoggerFactory.getLogger(ValueTransformationProviderImpl.class);
+    private final Map<String, TransformationService> transformationServices = new ConcurrentHashMap<>();
+    private final Map<String, ValueTransformation> transformationCache = new LinkedHashMap<>(MAX_CACHE_SIZE + 1, 1.0f,
+            true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, ValueTransformation> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
-    @Activate
-    @SuppressWarnings("unused")
-    public ValueTransformationProviderImpl(ComponentContext componentContext) {
-        this.bundleContext = componentContext.getBundleContext();
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    public void addTransformationService(TransformationService transformationService, Map<String, Object> properties) {
+        Object name = properties.get(TransformationService.SERVICE_PROPERTY_NAME);
+        if (name instanceof String) {
+            transformationServices.put(((String) name).toUpperCase(), transformationService);
+            logger.debug("Added transformation service '{}'", name);
+        }
+    }
+
+    public void removeTransformationService(TransformationService transformationService,
+            Map<String, Object> properties) {
+        Object name = properties.get(TransformationService.SERVICE_PROPERTY_NAME);
+        if (name instanceof String) {
+            transformationServices.remove(((String) name).toUpperCase(), transformationService);
+            logger.debug("Removed transformation service '{}'", name);
+        }
     }
 
     @Override
@@ -48,7 +83,38 @@ public class ValueTransformationProviderImpl implements ValueTransformationProvi
             return NoOpValueTransformation.getInstance();
         }
 
-        return new CascadedValueTransformation(pattern,
-                name -> TransformationHelper.getTransformationService(bundleContext, name));
+        synchronized (transformationCache) {
+            ValueTransformation transformation = transformationCache.get(pattern);
+            if (transformation != null) {
+                cacheHits.incrementAndGet();
+                return transformation;
+            }
+            cacheMisses.incrementAndGet();
+            transformation = new CascadedValueTransformation(pattern, transformationServices::get);
+            transformationCache.put(pattern, transformation);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Created transformation for '{}' (cache hits: {}, misses: {})", pattern, cacheHits.get(),
+                        cacheMisses.get());
+            }
+            return transformation;
+        }
+    }
+
+    /**
+     * get the number of requests that were answered from the cache
+     *
+     * @return number of cache hits
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * get the number of requests that needed a new transformation
+     *
+     * @return number of cache misses
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
     }
 }
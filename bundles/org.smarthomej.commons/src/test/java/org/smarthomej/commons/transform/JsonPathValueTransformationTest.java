@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * The {@link JsonPathValueTransformationTest} is a test class for the JSONPATH transformation on parsed documents
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class JsonPathValueTransformationTest {
+    private static final String CONTENT = "{\"a\":{\"b\":[{\"c\":\"foo\"},{\"c\":1.50}]},\"d\":17,\"e\":null,\"f\":true}";
+
+    @Mock
+    private @NonNullByDefault({}) ValueTransformation delegate;
+
+    private @NonNullByDefault({}) AutoCloseable closeable;
+
+    @BeforeEach
+    public void init() {
+        closeable = MockitoAnnotations.openMocks(this);
+        Mockito.when(delegate.apply(ArgumentMatchers.anyString())).thenReturn(Optional.of("delegate"));
+    }
+
+    @AfterEach
+    public void close() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    public void supportedExpressions() {
+        Assertions.assertTrue(JsonPathValueTransformation.isSupported("$.a.b[0].c"));
+        Assertions.assertTrue(JsonPathValueTransformation.isSupported("$['a'][\"b\"][1]"));
+        Assertions.assertFalse(JsonPathValueTransformation.isSupported("$..c"));
+        Assertions.assertFalse(JsonPathValueTransformation.isSupported("$.a.b[*].c"));
+        Assertions.assertFalse(JsonPathValueTransformation.isSupported("$.a.b[?(@.c == 'foo')]"));
+        Assertions.assertFalse(JsonPathValueTransformation.isSupported("$.a.b.length()"));
+    }
+
+    @Test
+    public void primitiveResults() {
+        Assertions.assertEquals(Optional.of("foo"), apply("$.a.b[0].c"));
+        Assertions.assertEquals(Optional.of("1.5"), apply("$['a']['b'][1]['c']"));
+        Assertions.assertEquals(Optional.of("17"), apply("$.d"));
+        Assertions.assertEquals(Optional.of("true"), apply("$.f"));
+        Assertions.assertEquals(Optional.empty(), apply("$.e"));
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    @Test
+    public void delegatedResults() {
+        // objects, arrays and missing elements are handled by the service
+        Assertions.assertEquals(Optional.of("delegate"), apply("$.a"));
+        Assertions.assertEquals(Optional.of("delegate"), apply("$.a.b"));
+        Assertions.assertEquals(Optional.of("delegate"), apply("$.x"));
+        Assertions.assertEquals(Optional.of("delegate"), apply("$.a.b[5]"));
+        Mockito.verify(delegate, Mockito.times(4)).apply(CONTENT);
+    }
+
+    private Optional<String> apply(String expression) {
+        return new JsonPathValueTransformation(expression, delegate).apply(CONTENT);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link ParsedDocumentCacheTest} is a test class for the {@link ParsedDocumentCache}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ParsedDocumentCacheTest {
+    private final List<String> parsed = new ArrayList<>();
+
+    @Test
+    public void documentsAreParsedOnce() {
+        ParsedDocumentCache<String> cache = new ParsedDocumentCache<>(2, Duration.ofMinutes(1), this::parse);
+
+        Assertions.assertEquals(Optional.of("A"), cache.get("a"));
+        Assertions.assertEquals(Optional.of("B"), cache.get("b"));
+        Assertions.assertEquals(Optional.of("A"), cache.get("a"));
+        Assertions.assertEquals(Optional.empty(), cache.get(""));
+        Assertions.assertEquals(Optional.empty(), cache.get(""));
+
+        Assertions.assertEquals(List.of("a", "b", ""), parsed);
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void expiredDocumentsAreRemoved() {
+        ParsedDocumentCache<String> cache = new ParsedDocumentCache<>(8, Duration.ZERO, this::parse);
+
+        cache.get("a");
+        cache.get("b");
+
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(List.of("a", "b"), parsed);
+    }
+
+    private @Nullable String parse(String content) {
+        parsed.add(content);
+        return content.isEmpty() ? null : content.toUpperCase();
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * The {@link XPathValueTransformationTest} is a test class for the XPATH transformation on parsed documents
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class XPathValueTransformationTest {
+    private static final String CONTENT = "<root><a x=\"1\">foo</a><b>17</b></root>";
+
+    @Mock
+    private @NonNullByDefault({}) ValueTransformation delegate;
+
+    private @NonNullByDefault({}) AutoCloseable closeable;
+
+    @BeforeEach
+    public void init() {
+        closeable = MockitoAnnotations.openMocks(this);
+        Mockito.when(delegate.apply(ArgumentMatchers.anyString())).thenReturn(Optional.of("delegate"));
+    }
+
+    @AfterEach
+    public void close() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    public void simplePaths() {
+        Assertions.assertEquals(Optional.of("foo"), apply("/root/a", CONTENT));
+        Assertions.assertEquals(Optional.of("1"), apply("/root/a/@x", CONTENT));
+        Assertions.assertEquals(Optional.of("17"), apply("//b", CONTENT));
+        Assertions.assertEquals(Optional.of(""), apply("/root/c", CONTENT));
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    @Test
+    public void failedEvaluationIsDelegated() {
+        // variables can't be resolved without a resolver, the service creates the proper error
+        Assertions.assertEquals(Optional.of("delegate"), apply("$var", CONTENT));
+        Mockito.verify(delegate).apply(CONTENT);
+    }
+
+    @Test
+    public void malformedDocumentIsDelegated() {
+        String content = "<root><a>foo</root>";
+        Assertions.assertEquals(Optional.of("delegate"), apply("/root/a", content));
+        Mockito.verify(delegate).apply(content);
+    }
+
+    @Test
+    public void invalidExpressionIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new XPathValueTransformation("/root/[", delegate));
+    }
+
+    private Optional<String> apply(String expression, String content) {
+        return new XPathValueTransformation(expression, delegate).apply(content);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+
+/**
+ * The {@link AggregateFilterCriteria} is a {@link FilterCriteria} that requests values aggregated over time windows
+ * instead of the raw values. The aggregation is done by the database, so only one value per window is returned.
+ *
+ * The window size can either be set directly with {@link #setResolution(Duration)} or calculated from the requested
+ * number of buckets with {@link #setBuckets(int)} (needs begin and end date). A begin date is always required, without
+ * a lower bound the database would have to create windows starting at the earliest possible time, so the raw values
+ * are queried instead.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class AggregateFilterCriteria extends FilterCriteria {
+
+    /**
+     * Aggregate functions supported by the database
+     */
+    public enum AggregateFunction {
+        MEAN,
+        MIN,
+        MAX,
+        LAST
+    }
+
+    private AggregateFunction aggregateFunction = AggregateFunction.MEAN;
+    private @Nullable Duration resolution;
+    private int buckets = 0;
+
+    public AggregateFunction getAggregateFunction() {
+        return aggregateFunction;
+    }
+
+    public AggregateFilterCriteria setAggregateFunction(AggregateFunction aggregateFunction) {
+        this.aggregateFunction = aggregateFunction;
+        return this;
+    }
+
+    /**
+     * set the size of the aggregation windows
+     *
+     * @param resolution the window size
+     * @return this
+     */
+    public AggregateFilterCriteria setResolution(Duration resolution) {
+        this.resolution = resolution;
+        this.buckets = 0;
+        return this;
+    }
+
+    /**
+     * set the number of aggregation windows between begin and end date
+     *
+     * @param buckets the number of windows
+     * @return this
+     */
+    public AggregateFilterCriteria setBuckets(int buckets) {
+        this.buckets = buckets;
+        this.resolution = null;
+        return this;
+    }
+
+    /**
+     * get the size of the aggregation windows
+     *
+     * @return the window size (empty if neither resolution nor buckets are set, the begin date is missing or the
+     *         number of buckets can't be used because the end date is missing)
+     */
+    public Optional<Duration> getWindow() {
+        ZonedDateTime beginDate = getBeginDate();
+        if (beginDate == null) {
+            return Optional.empty();
+        }
+        Duration resolution = this.resolution;
+        if (resolution != null) {
+            return resolution.isZero() || resolution.isNegative() ? Optional.empty() : Optional.of(resolution);
+        }
+        ZonedDateTime endDate = getEndDate();
+        if (buckets > 0 && endDate != null) {
+            long windowMillis = Duration.between(beginDate, endDate).toMillis() / buckets;
+            return Optional.of(Duration.ofMillis(Math.max(windowMillis, 1)));
+        }
+        return Optional.empty();
+    }
+}
@@ -13,16 +13,25 @@
  */
 package org.smarthomej.persistence.influxdb;
 
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
@@ -42,16 +51,20 @@ import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.persistence.influxdb.internal.ClosingStreamIterator;
 import org.smarthomej.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBHistoricItem;
-import org.smarthomej.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBItemInfoIndex;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBSpool;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBStateConvertUtils;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBWriteBuffer;
 import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
 import org.smarthomej.persistence.influxdb.internal.ItemToStorePointCreator;
 import org.smarthomej.persistence.influxdb.internal.RepositoryFactory;
+import org.smarthomej.persistence.influxdb.internal.SingleUseIterable;
 
 /**
  * This is the implementation of the InfluxDB {@link PersistenceService}. It persists item values
@@ -85,12 +98,19 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
     private final ItemRegistry itemRegistry;
     private final MetadataRegistry metadataRegistry;
 
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("persistence");
+
     // Internal dependencies/state
     private InfluxDBConfiguration configuration = InfluxDBConfiguration.NO_CONFIGURATION;
 
     // Relax rules because can only be null if component is not active
     private @NonNullByDefault({}) ItemToStorePointCreator itemToStorePointCreator;
     private @NonNullByDefault({}) InfluxDBRepository influxDBRepository;
+    private @NonNullByDefault({}) InfluxDBWriteBuffer writeBuffer;
+    private @Nullable InfluxDBSpool spool;
+    private @Nullable ScheduledFuture<?> replayJob;
+    private @NonNullByDefault({}) InfluxDBItemInfoIndex itemInfoIndex;
+    private @Nullable ScheduledFuture<?> reconcileJob;
 
     private boolean tryReconnection = false;
 
@@ -110,8 +130,22 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
 
         if (loadConfiguration(config)) {
             itemToStorePointCreator = new ItemToStorePointCreator(configuration, metadataRegistry);
+            itemRegistry.addRegistryChangeListener(itemToStorePointCreator.getItemChangeListener());
+            metadataRegistry.addRegistryChangeListener(itemToStorePointCreator.getMetadataChangeListener());
             influxDBRepository = createInfluxDBRepository();
             influxDBRepository.connect();
+            InfluxDBSpool spool = createSpool();
+            this.spool = spool;
+            if (spool != null) {
+                writeBuffer = new InfluxDBWriteBuffer(influxDBRepository, scheduler, configuration, spool::append);
+                replayJob = scheduler.scheduleWithFixedDelay(this::replaySpool, 1, 1, TimeUnit.SECONDS);
+            } else {
+                writeBuffer = new InfluxDBWriteBuffer(influxDBRepository, scheduler, configuration, null);
+            }
+            itemInfoIndex = createItemInfoIndex();
+            itemInfoIndex.load();
+            reconcileJob = scheduler.scheduleWithFixedDelay(this::reconcileItemInfoIndex, 1,
+                    TimeUnit.DAYS.toMinutes(1), TimeUnit.MINUTES);
             tryReconnection = true;
         } else {
             logger.error("Cannot load configuration, persistence service wont work");
@@ -126,18 +160,60 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
         return RepositoryFactory.createRepository(configuration);
     }
 
+    // Visible for testing
+    protected @Nullable InfluxDBSpool createSpool() {
+        int spoolMaxSize = configuration.getSpoolMaxSize();
+        if (spoolMaxSize == 0) {
+            return null;
+        }
+        return new InfluxDBSpool(Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb"),
+                spoolMaxSize * 1024L * 1024L);
+    }
+
+    // Visible for testing
+    protected InfluxDBItemInfoIndex createItemInfoIndex() {
+        return new InfluxDBItemInfoIndex(
+                Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb", "itemindex"));
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
     @Deactivate
     public void deactivate() {
         logger.debug("InfluxDB persistence service deactivated");
+        ScheduledFuture<?> replayJob = this.replayJob;
+        if (replayJob != null) {
+            replayJob.cancel(false);
+            this.replayJob = null;
+        }
+        ScheduledFuture<?> reconcileJob = this.reconcileJob;
+        if (reconcileJob != null) {
+            reconcileJob.cancel(false);
+            this.reconcileJob = null;
+        }
+        if (itemInfoIndex != null) {
+            itemInfoIndex.save();
+            itemInfoIndex = null;
+        }
+        if (writeBuffer != null) {
+            // write all pending points before the connection is closed
+            writeBuffer.stop();
+            writeBuffer = null;
+        }
+        InfluxDBSpool spool = this.spool;
+        if (spool != null) {
+            spool.close();
+            this.spool = null;
+        }
         if (influxDBRepository != null) {
             tryReconnection = false;
             influxDBRepository.disconnect();
             influxDBRepository = null;
         }
         if (itemToStorePointCreator != null) {
+            itemRegistry.removeRegistryChangeListener(itemToStorePointCreator.getItemChangeListener());
+            metadataRegistry.removeRegistryChangeListener(itemToStorePointCreator.getMetadataChangeListener());
             itemToStorePointCreator = null;
         }
     }
@@ -205,14 +281,11 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        if (checkConnection()) {
-            return influxDBRepository.getStoredItemsCount().entrySet().stream()
-                    .map(entry -> new InfluxDBPersistentItemInfo(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toUnmodifiableSet());
-        } else {
-            logger.info("getItemInfo ignored, InfluxDB is not yet connected");
+        if (itemInfoIndex == null) {
+            logger.info("getItemInfo ignored, InfluxDB persistence service is not active");
             return Set.of();
         }
+        return itemInfoIndex.getItemInfo();
     }
 
     @Override
@@ -222,19 +295,78 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
 
     @Override
     public void store(Item item, @Nullable String alias) {
+        if (influxDBRepository == null) {
+            logger.debug("store ignored, InfluxDB persistence service is not active");
+            return;
+        }
+        InfluxPoint point = itemToStorePointCreator.convert(item, alias);
+        if (point == null) {
+            logger.trace("Ignoring item {} as is cannot be converted to a InfluxDB point", item);
+            return;
+        }
+
+        InfluxDBSpool spool = this.spool;
         if (checkConnection()) {
-            InfluxPoint point = itemToStorePointCreator.convert(item, alias);
-            if (point != null) {
-                logger.trace("Storing item {} in InfluxDB point {}", item, point);
-                influxDBRepository.write(point);
-            } else {
-                logger.trace("Ignoring item {} as is cannot be converted to a InfluxDB point", item);
+            logger.trace("Storing item {} in InfluxDB point {}", item, point);
+            if (writeBuffer.add(point)) {
+                itemInfoIndex.add(item.getName(), point.getTime());
+            }
+        } else if (spool != null) {
+            logger.trace("Spooling item {} as InfluxDB point {} until connected", item, point);
+            if (spool.append(List.of(point))) {
+                itemInfoIndex.add(item.getName(), point.getTime());
             }
         } else {
             logger.debug("store ignored, InfluxDB is not yet connected");
         }
     }
 
+    /**
+     * replace the counts in the item info index with the counts stored in the database
+     */
+    private void reconcileItemInfoIndex() {
+        if (!checkConnection()) {
+            return;
+        }
+        try {
+            Instant start = Instant.now();
+            itemInfoIndex.reconcile(influxDBRepository.getStoredItemsCount(), start);
+            itemInfoIndex.save();
+        } catch (RuntimeException e) {
+            logger.debug("Reconciling item info index failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * write spooled points to the database, at most {@link InfluxDBConfiguration#getSpoolReplayRate()} per run
+     */
+    private void replaySpool() {
+        InfluxDBSpool spool = this.spool;
+        if (spool == null || spool.isEmpty() || !checkConnection()) {
+            return;
+        }
+        int remaining = configuration.getSpoolReplayRate();
+        while (remaining > 0 && !spool.isEmpty()) {
+            List<InfluxPoint> points = spool.peek(Math.min(remaining, configuration.getBatchSize()));
+            try {
+                if (!points.isEmpty()) {
+                    // the write is synchronous and throws if the points were not accepted by the server
+                    influxDBRepository.writeBatch(points);
+                }
+            } catch (RuntimeException e) {
+                // keep the points in the spool, they are peeked again in the next run
+                logger.debug("Replaying spooled points failed, will retry: {}", e.getMessage());
+                return;
+            }
+            // only remove the points from the spool after the write was confirmed
+            spool.commit();
+            remaining -= Math.max(points.size(), 1);
+        }
+        if (spool.isEmpty()) {
+            logger.info("All spooled points have been written to InfluxDB");
+        }
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
         logger.debug("Got a query for historic points!");
@@ -248,18 +380,38 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
             String query = RepositoryFactory.createQueryCreator(configuration).createQuery(filter,
                     configuration.getRetentionPolicy());
             logger.trace("Query {}", query);
+            if (configuration.isStreamingQueries()) {
+                // the query is executed when the result is iterated and rows are converted while they are read, the
+                // query is cancelled when the iterator is exhausted, fails, is closed or is abandoned. The result can
+                // only be iterated once, callers must read it completely or close the iterator.
+                InfluxDBRepository repository = influxDBRepository;
+                return new SingleUseIterable<>(
+                        () -> new ClosingStreamIterator<>(repository.queryStream(query).map(createRowMapper())));
+            }
             List<InfluxRow> results = influxDBRepository.query(query);
-            return results.stream().map(this::mapRow2HistoricItem).collect(Collectors.toList());
+            return results.stream().map(createRowMapper()).collect(Collectors.toList());
         } else {
             logger.debug("query ignored, InfluxDB is not yet connected");
             return List.of();
         }
     }
 
-    private HistoricItem mapRow2HistoricItem(InfluxRow row) {
-        State state = InfluxDBStateConvertUtils.objectToState(row.getValue(), row.getItemName(), itemRegistry);
-        return new InfluxDBHistoricItem(row.getItemName(), state,
-                ZonedDateTime.ofInstant(row.getTime(), ZoneId.systemDefault()));
+    /**
+     * create a mapper from rows to {@link HistoricItem}s
+     *
+     * The state converter of each item is resolved once per mapper, so a mapper should be used for a single query.
+     *
+     * @return the mapper
+     */
+    private Function<InfluxRow, HistoricItem> createRowMapper() {
+        Map<String, Function<Object, State>> stateConverters = new HashMap<>();
+        ZoneId zoneId = ZoneId.systemDefault();
+        return row -> {
+            Function<Object, State> stateConverter = stateConverters.computeIfAbsent(row.getItemName(),
+                    itemName -> InfluxDBStateConvertUtils.getStateConverter(itemName, itemRegistry));
+            return new InfluxDBHistoricItem(row.getItemName(), stateConverter.apply(row.getValue()),
+                    ZonedDateTime.ofInstant(row.getTime(), zoneId));
+        };
     }
 
     @Override
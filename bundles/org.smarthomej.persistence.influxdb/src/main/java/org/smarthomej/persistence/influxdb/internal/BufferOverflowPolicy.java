@@ -11,14 +11,16 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.smarthomej.binding.dmx.internal.action;
+package org.smarthomej.persistence.influxdb.internal;
 
 /**
- * The {@link FadeDirection} gives the direction for fading
+ * Behaviour of the {@link InfluxDBWriteBuffer} if the buffer is full
  *
  * @author Jan N. Klug - Initial contribution
  */
-enum FadeDirection {
-    UP,
-    DOWN
+public enum BufferOverflowPolicy {
+    /** new points are dropped */
+    DROP,
+    /** the storing thread is blocked until there is space in the buffer */
+    BLOCK
 }
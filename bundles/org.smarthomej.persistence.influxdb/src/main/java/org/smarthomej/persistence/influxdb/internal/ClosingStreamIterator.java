@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ClosingStreamIterator} iterates over a stream and closes it as soon as it is no longer needed
+ *
+ * The stream is closed when all elements have been read, reading fails, {@link #close()} is called or the iterator is
+ * no longer referenced (e.g. because the consumer stopped iterating early). For query results this cancels the query
+ * instead of blocking the client until the read timeout has passed.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ClosingStreamIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Iterator<T> iterator;
+    private final Cleaner.Cleanable cleanable;
+
+    public ClosingStreamIterator(Stream<T> stream) {
+        this.iterator = stream.iterator();
+        // the cleaning action must not reference this iterator, otherwise it is never unreachable
+        this.cleanable = CLEANER.register(this, stream::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            if (iterator.hasNext()) {
+                return true;
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return iterator.next();
+    }
+
+    /**
+     * close the stream (subsequent calls have no effect)
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+}
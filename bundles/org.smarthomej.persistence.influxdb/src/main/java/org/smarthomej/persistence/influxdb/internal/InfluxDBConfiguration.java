@@ -40,6 +40,13 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String BATCH_SIZE_PARAM = "batchSize";
+    public static final String FLUSH_INTERVAL_PARAM = "flushInterval";
+    public static final String MAX_BUFFER_SIZE_PARAM = "maxBufferSize";
+    public static final String BUFFER_OVERFLOW_POLICY_PARAM = "bufferOverflowPolicy";
+    public static final String SPOOL_MAX_SIZE_PARAM = "spoolMaxSize";
+    public static final String SPOOL_REPLAY_RATE_PARAM = "spoolReplayRate";
+    public static final String STREAMING_QUERIES_PARAM = "streamingQueries";
     public static InfluxDBConfiguration NO_CONFIGURATION = new InfluxDBConfiguration(Collections.emptyMap());
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
@@ -55,6 +62,14 @@ public class InfluxDBConfiguration {
     private final boolean addTypeTag;
     private final boolean addLabelTag;
 
+    private final int batchSize;
+    private final int flushInterval;
+    private final int maxBufferSize;
+    private final BufferOverflowPolicy bufferOverflowPolicy;
+    private final int spoolMaxSize;
+    private final int spoolReplayRate;
+    private final boolean streamingQueries;
+
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = (String) config.getOrDefault(URL_PARAM, "http://127.0.0.1:8086");
         user = (String) config.getOrDefault(USER_PARAM, "openhab");
@@ -68,6 +83,15 @@ public class InfluxDBConfiguration {
         addCategoryTag = getConfigBooleanValue(config, ADD_CATEGORY_TAG_PARAM, false);
         addLabelTag = getConfigBooleanValue(config, ADD_LABEL_TAG_PARAM, false);
         addTypeTag = getConfigBooleanValue(config, ADD_TYPE_TAG_PARAM, false);
+
+        batchSize = getConfigIntValue(config, BATCH_SIZE_PARAM, 200, 1);
+        flushInterval = getConfigIntValue(config, FLUSH_INTERVAL_PARAM, 100, 1);
+        maxBufferSize = getConfigIntValue(config, MAX_BUFFER_SIZE_PARAM, 10000, 1);
+        bufferOverflowPolicy = parseBufferOverflowPolicy(
+                config.getOrDefault(BUFFER_OVERFLOW_POLICY_PARAM, BufferOverflowPolicy.DROP.name()));
+        spoolMaxSize = getConfigIntValue(config, SPOOL_MAX_SIZE_PARAM, 100, 0);
+        spoolReplayRate = getConfigIntValue(config, SPOOL_REPLAY_RATE_PARAM, 1000, 1);
+        streamingQueries = getConfigBooleanValue(config, STREAMING_QUERIES_PARAM, false);
     }
 
     private static boolean getConfigBooleanValue(Map<String, Object> config, String key, boolean defaultValue) {
@@ -81,6 +105,34 @@ public class InfluxDBConfiguration {
         }
     }
 
+    private int getConfigIntValue(Map<String, Object> config, String key, int defaultValue, int minValue) {
+        Object object = config.get(key);
+        int value = defaultValue;
+        if (object instanceof Number) {
+            value = ((Number) object).intValue();
+        } else if (object instanceof String) {
+            try {
+                value = Integer.parseInt(((String) object).trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value {} for {}, using {}", object, key, defaultValue);
+            }
+        }
+        if (value < minValue) {
+            logger.warn("Value {} for {} must be at least {}, using {}", value, key, minValue, defaultValue);
+            return defaultValue;
+        }
+        return value;
+    }
+
+    private BufferOverflowPolicy parseBufferOverflowPolicy(@Nullable Object value) {
+        try {
+            return BufferOverflowPolicy.valueOf((String) value);
+        } catch (RuntimeException e) {
+            logger.warn("Invalid buffer overflow policy {}, using {}", value, BufferOverflowPolicy.DROP);
+            return BufferOverflowPolicy.DROP;
+        }
+    }
+
     private InfluxDBVersion parseInfluxVersion(@Nullable Object value) {
         try {
             return InfluxDBVersion.valueOf((String) value);
@@ -169,13 +221,44 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    public BufferOverflowPolicy getBufferOverflowPolicy() {
+        return bufferOverflowPolicy;
+    }
+
+    public int getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
+    public int getSpoolReplayRate() {
+        return spoolReplayRate;
+    }
+
+    public boolean isStreamingQueries() {
+        return streamingQueries;
+    }
+
     @Override
     public String toString() {
         String sb = "InfluxDBConfiguration{" + "url='" + url + '\'' + ", user='" + user + '\'' + ", password='"
                 + password.length() + " chars" + '\'' + ", token='" + token.length() + " chars" + '\''
                 + ", databaseName='" + databaseName + '\'' + ", retentionPolicy='" + retentionPolicy + '\''
                 + ", version=" + version + ", replaceUnderscore=" + replaceUnderscore + ", addCategoryTag="
-                + addCategoryTag + ", addTypeTag=" + addTypeTag + ", addLabelTag=" + addLabelTag + '}';
+                + addCategoryTag + ", addTypeTag=" + addTypeTag + ", addLabelTag=" + addLabelTag + ", batchSize="
+                + batchSize + ", flushInterval=" + flushInterval + ", maxBufferSize=" + maxBufferSize
+                + ", bufferOverflowPolicy=" + bufferOverflowPolicy + ", spoolMaxSize=" + spoolMaxSize
+                + ", spoolReplayRate=" + spoolReplayRate + ", streamingQueries=" + streamingQueries + '}';
         return sb;
     }
 
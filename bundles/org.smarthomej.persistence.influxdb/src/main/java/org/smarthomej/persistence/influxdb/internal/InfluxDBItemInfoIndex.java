@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBItemInfoIndex} keeps the number of stored points and the time of the earliest and latest point
+ * for each item, so item information can be returned without querying the database
+ *
+ * The index is updated for every stored point and periodically reconciled with the counts from the database. It is
+ * saved to a file when the service is stopped.
+ *
+ * The database only reports counts, so the earliest point is only known as long as all points in the database have been
+ * stored through the index. Otherwise (e.g. points stored before the index existed or removed by the retention policy)
+ * it is reported as unknown. The latest point is the most recent point stored through the index.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBItemInfoIndex {
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBItemInfoIndex.class);
+    private final Map<String, ItemInfo> items = new ConcurrentHashMap<>();
+    private final @Nullable Path file;
+
+    /**
+     * Create a new index
+     *
+     * @param file the file the index is loaded from and saved to (may be null)
+     */
+    public InfluxDBItemInfoIndex(@Nullable Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Add a stored point
+     *
+     * @param itemName the name of the item
+     * @param time the time of the point
+     */
+    public void add(String itemName, Instant time) {
+        items.compute(itemName, (name, info) -> {
+            ItemInfo newInfo = info == null ? new ItemInfo(0, time, time) : info;
+            return newInfo.add(time);
+        });
+    }
+
+    /**
+     * Replace the counts with the counts from the database
+     *
+     * If the count from the database differs from the indexed count, the earliest point is no longer known.
+     *
+     * Items that are not found in the database are removed unless points have been stored after the reconciliation
+     * started (e.g. points that are still buffered).
+     *
+     * @param storedItemsCount the number of points per item in the database
+     * @param reconciliationStart the time the database query was started
+     */
+    public void reconcile(Map<String, Integer> storedItemsCount, Instant reconciliationStart) {
+        storedItemsCount.forEach((itemName, count) -> items.compute(itemName, (name, info) -> {
+            if (info == null) {
+                return new ItemInfo(count, null, null);
+            }
+            return new ItemInfo(count, count == info.count ? info.earliest : null, info.latest);
+        }));
+        items.entrySet().removeIf(entry -> !storedItemsCount.containsKey(entry.getKey())
+                && (entry.getValue().latest == null || entry.getValue().latest.isBefore(reconciliationStart)));
+        logger.debug("Reconciled item index with {} items from database", storedItemsCount.size());
+    }
+
+    /**
+     * Get the information of all items
+     *
+     * @return set of item information
+     */
+    public Set<PersistenceItemInfo> getItemInfo() {
+        return items.entrySet().stream().map(entry -> entry.getValue().toPersistenceItemInfo(entry.getKey()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Check if the index contains any items
+     *
+     * @return true if no items are known
+     */
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * Load the index from the file
+     */
+    public void load() {
+        Path file = this.file;
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t", -1);
+                if (parts.length != 4) {
+                    continue;
+                }
+                items.put(parts[0], new ItemInfo(Integer.parseInt(parts[1]), parseInstant(parts[2]),
+                        parseInstant(parts[3])));
+            }
+            logger.debug("Loaded item index with {} items from '{}'", items.size(), file);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to load item index from '{}': {}", file, e.getMessage());
+            items.clear();
+        }
+    }
+
+    /**
+     * Save the index to the file
+     */
+    public void save() {
+        Path file = this.file;
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, ItemInfo> entry : items.entrySet()) {
+                    ItemInfo info = entry.getValue();
+                    writer.write(entry.getKey() + "\t" + info.count + "\t" + formatInstant(info.earliest) + "\t"
+                            + formatInstant(info.latest));
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to save item index to '{}': {}", file, e.getMessage());
+        }
+    }
+
+    private static @Nullable Instant parseInstant(String value) {
+        return value.isEmpty() ? null : Instant.parse(value);
+    }
+
+    private static String formatInstant(@Nullable Instant instant) {
+        return instant == null ? "" : instant.toString();
+    }
+
+    private static class ItemInfo {
+        private final int count;
+        private final @Nullable Instant earliest;
+        private final @Nullable Instant latest;
+
+        public ItemInfo(int count, @Nullable Instant earliest, @Nullable Instant latest) {
+            this.count = count;
+            this.earliest = earliest;
+            this.latest = latest;
+        }
+
+        public ItemInfo add(Instant time) {
+            Instant earliest = this.earliest;
+            Instant latest = this.latest;
+            // an unknown earliest point stays unknown unless the item has no points at all
+            Instant newEarliest = earliest == null ? (count == 0 ? time : null)
+                    : (time.isBefore(earliest) ? time : earliest);
+            return new ItemInfo(count + 1, newEarliest, latest == null || time.isAfter(latest) ? time : latest);
+        }
+
+        public PersistenceItemInfo toPersistenceItemInfo(String itemName) {
+            Instant earliest = this.earliest;
+            Instant latest = this.latest;
+            return new InfluxDBPersistentItemInfo(itemName, count, earliest == null ? null : Date.from(earliest),
+                    latest == null ? null : Date.from(latest));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Converts {@link InfluxPoint}s to and from InfluxDB line protocol
+ *
+ * The timestamp is written with millisecond precision (use {@code --precision ms} when importing files manually).
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBLineProtocol {
+
+    private InfluxDBLineProtocol() {
+        // prevent instantiation
+    }
+
+    /**
+     * Convert a point to a line
+     *
+     * @param point the point
+     * @return the line (without line separator) or null if the point can't be converted
+     */
+    public static @Nullable String encode(InfluxPoint point) {
+        String value = encodeValue(point.getValue());
+        if (value == null) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        escape(line, point.getMeasurementName(), ", ");
+        for (Map.Entry<String, String> tag : point.getTags().entrySet()) {
+            line.append(',');
+            escape(line, tag.getKey(), ",= ");
+            line.append('=');
+            escape(line, tag.getValue(), ",= ");
+        }
+        line.append(' ').append(FIELD_VALUE_NAME).append('=').append(value).append(' ')
+                .append(point.getTime().toEpochMilli());
+        return line.toString();
+    }
+
+    /**
+     * Convert a line to a point
+     *
+     * @param line the line (without line separator)
+     * @return the point or null if the line could not be parsed
+     */
+    public static @Nullable InfluxPoint decode(String line) {
+        // measurement and tags, fields and timestamp are separated by unescaped spaces outside of quoted strings
+        List<String> sections = split(line, ' ', true);
+        if (sections.size() != 3) {
+            return null;
+        }
+        List<String> seriesKey = split(sections.get(0), ',', false);
+        List<String> field = split(sections.get(1), '=', true);
+        if (seriesKey.get(0).isEmpty() || field.size() != 2 || !FIELD_VALUE_NAME.equals(unescape(field.get(0)))) {
+            return null;
+        }
+        try {
+            InfluxPoint.Builder builder = InfluxPoint.newBuilder(unescape(seriesKey.get(0)))
+                    .withTime(Instant.ofEpochMilli(Long.parseLong(sections.get(2))))
+                    .withValue(decodeValue(field.get(1)));
+            for (String tag : seriesKey.subList(1, seriesKey.size())) {
+                List<String> keyValue = split(tag, '=', false);
+                if (keyValue.size() != 2) {
+                    return null;
+                }
+                builder.withTag(unescape(keyValue.get(0)), unescape(keyValue.get(1)));
+            }
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable String encodeValue(@Nullable Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            return value + "i";
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        } else if (value instanceof Number) {
+            double doubleValue = ((Number) value).doubleValue();
+            return Double.isFinite(doubleValue) ? BigDecimal.valueOf(doubleValue).toPlainString() : null;
+        } else if (value instanceof Boolean) {
+            return value.toString();
+        } else if (value instanceof String) {
+            StringBuilder builder = new StringBuilder("\"");
+            escape(builder, (String) value, "\"");
+            return builder.append('"').toString();
+        }
+        return null;
+    }
+
+    private static Object decodeValue(String value) {
+        if (value.startsWith("\"") && value.endsWith("\"") && value.length() >= 2) {
+            return unescape(value.substring(1, value.length() - 1));
+        } else if ("true".equals(value) || "false".equals(value)) {
+            return Boolean.valueOf(value);
+        } else if (value.endsWith("i")) {
+            return Long.valueOf(value.substring(0, value.length() - 1));
+        }
+        return new BigDecimal(value);
+    }
+
+    private static void escape(StringBuilder builder, String value, String specialChars) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || specialChars.indexOf(c) != -1) {
+                builder.append('\\');
+            } else if (c == '\n') {
+                // line breaks are not allowed in line protocol
+                builder.append("\\n");
+                continue;
+            }
+            builder.append(c);
+        }
+    }
+
+    private static String unescape(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                builder.append(next == 'n' ? '\n' : next);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static List<String> split(String value, char separator, boolean quotedValues) {
+        List<String> parts = new ArrayList<>();
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"' && quotedValues && !parts.isEmpty()) {
+                // only values (after the first separator) can be quoted
+                quoted = !quoted;
+            } else if (c == separator && !quoted) {
+                parts.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(value.substring(start));
+        return parts;
+    }
+}
@@ -28,10 +28,18 @@ import org.openhab.core.persistence.PersistenceItemInfo;
 public class InfluxDBPersistentItemInfo implements PersistenceItemInfo {
     private final String name;
     private final Integer count;
+    private final @Nullable Date earliest;
+    private final @Nullable Date latest;
 
     public InfluxDBPersistentItemInfo(String name, Integer count) {
+        this(name, count, null, null);
+    }
+
+    public InfluxDBPersistentItemInfo(String name, Integer count, @Nullable Date earliest, @Nullable Date latest) {
         this.name = name;
         this.count = count;
+        this.earliest = earliest;
+        this.latest = latest;
     }
 
     @Override
@@ -48,12 +56,12 @@ public class InfluxDBPersistentItemInfo implements PersistenceItemInfo {
     @Override
     @Nullable
     public Date getEarliest() {
-        return null;
+        return earliest;
     }
 
     @Override
     @Nullable
     public Date getLatest() {
-        return null;
+        return latest;
     }
 }
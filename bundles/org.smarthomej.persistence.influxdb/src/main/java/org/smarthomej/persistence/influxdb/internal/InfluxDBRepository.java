@@ -15,6 +15,7 @@ package org.smarthomej.persistence.influxdb.internal;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
@@ -66,10 +67,34 @@ public interface InfluxDBRepository {
      */
     List<InfluxRow> query(String query);
 
+    /**
+     * Executes query and returns the rows while they are received
+     *
+     * The stream should be closed if it is not read completely, otherwise the query is cancelled after a timeout.
+     * If the query fails or times out, an {@link InfluxDBQueryException} is thrown while reading the stream.
+     *
+     * @param query Query
+     * @return Stream of query results
+     */
+    Stream<InfluxRow> queryStream(String query);
+
     /**
      * Write point to database
      *
      * @param influxPoint Point to write
+     * @throws RuntimeException if the point could not be written
+     */
+    default void write(InfluxPoint influxPoint) {
+        writeBatch(List.of(influxPoint));
+    }
+
+    /**
+     * Write points to database in a single request
+     *
+     * The write is synchronous, if this method returns without exception the points have been accepted by the server.
+     *
+     * @param influxPoints Points to write
+     * @throws RuntimeException if the points could not be written (e.g. not connected or server error)
      */
-    void write(InfluxPoint influxPoint);
+    void writeBatch(List<InfluxPoint> influxPoints);
 }
@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBSpool} is a local, append-only store for points that could not be written to the database
+ *
+ * Points are stored in line protocol in segment files. Segments are replayed oldest first and removed after all
+ * points have been written. If the service is stopped during a replay, the current segment is replayed again on the
+ * next start. This is safe because InfluxDB overwrites points with the same series and timestamp.
+ *
+ * Appending is thread-safe, {@link #peek(int)} and {@link #commit()} must only be called from a single thread.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpool {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".lp";
+    private static final long MAX_SEGMENT_SIZE = 1024 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpool.class);
+    private final Path directory;
+    private final long maxSize;
+
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private long size = 0;
+    private long nextSegmentNumber = 0;
+    private boolean full = false;
+
+    private @Nullable OutputStream segmentOutputStream;
+    private long segmentSize = 0;
+
+    private @Nullable Path headSegment;
+    private List<String> headLines = List.of();
+    private int headPosition = 0;
+    private int pendingLines = 0;
+
+    /**
+     * Create a new spool (existing segments in the directory are picked up)
+     *
+     * @param directory the directory for the segment files
+     * @param maxSize maximum size of all segments in bytes
+     */
+    public InfluxDBSpool(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path segment : files.filter(InfluxDBSpool::isSegment)
+                        .sorted((a, b) -> Long.compare(getSegmentNumber(a), getSegmentNumber(b)))
+                        .collect(Collectors.toList())) {
+                    segments.add(segment);
+                    size += Files.size(segment);
+                    nextSegmentNumber = getSegmentNumber(segment) + 1;
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to read spool directory '{}': {}", directory, e.getMessage());
+            }
+        }
+        if (!segments.isEmpty()) {
+            logger.info("Found {} bytes of spooled points in '{}', they will be written when connected", size,
+                    directory);
+        }
+    }
+
+    /**
+     * Append points to the spool
+     *
+     * @param points the points
+     * @return true if the points were stored, false if the spool is full or writing failed
+     */
+    public synchronized boolean append(List<InfluxPoint> points) {
+        StringBuilder lines = new StringBuilder();
+        for (InfluxPoint point : points) {
+            String line = InfluxDBLineProtocol.encode(point);
+            if (line != null) {
+                lines.append(line).append('\n');
+            } else {
+                logger.debug("Point {} can't be spooled", point);
+            }
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        if (size + bytes.length > maxSize) {
+            if (!full) {
+                logger.warn("Spool has reached its maximum size of {} bytes, dropping points", maxSize);
+                full = true;
+            }
+            return false;
+        }
+
+        try {
+            OutputStream outputStream = getSegmentOutputStream(bytes.length);
+            outputStream.write(bytes);
+            size += bytes.length;
+            segmentSize += bytes.length;
+            full = false;
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to spool {} points: {}", points.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Get the oldest points (they are not removed until {@link #commit()} is called)
+     *
+     * @param maxPoints maximum number of points
+     * @return list of points (empty if there are no points or all lines in this range were invalid)
+     */
+    public List<InfluxPoint> peek(int maxPoints) {
+        if (headPosition >= headLines.size() && !loadHeadSegment()) {
+            return List.of();
+        }
+        int end = Math.min(headLines.size(), headPosition + maxPoints);
+        List<InfluxPoint> points = new ArrayList<>(end - headPosition);
+        for (String line : headLines.subList(headPosition, end)) {
+            InfluxPoint point = InfluxDBLineProtocol.decode(line);
+            if (point != null) {
+                points.add(point);
+            } else if (!line.isEmpty()) {
+                logger.warn("Ignoring invalid line '{}' in spool", line);
+            }
+        }
+        pendingLines = end - headPosition;
+        return points;
+    }
+
+    /**
+     * Remove the points returned by the last call to {@link #peek(int)}
+     */
+    public void commit() {
+        headPosition += pendingLines;
+        pendingLines = 0;
+        Path headSegment = this.headSegment;
+        if (headSegment != null && headPosition >= headLines.size()) {
+            synchronized (this) {
+                try {
+                    long segmentFileSize = Files.size(headSegment);
+                    Files.delete(headSegment);
+                    size -= segmentFileSize;
+                } catch (IOException e) {
+                    logger.warn("Failed to remove spool segment '{}': {}", headSegment, e.getMessage());
+                }
+                segments.remove(headSegment);
+            }
+            this.headSegment = null;
+            headLines = List.of();
+            headPosition = 0;
+        }
+    }
+
+    /**
+     * Check if the spool contains points
+     *
+     * @return true if no points are spooled
+     */
+    public synchronized boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * Close the current segment
+     */
+    public synchronized void close() {
+        closeSegmentOutputStream();
+    }
+
+    private synchronized boolean loadHeadSegment() {
+        Path segment = segments.peekFirst();
+        if (segment == null) {
+            return false;
+        }
+        if (segments.size() == 1 && segmentOutputStream != null) {
+            // the head segment must not change while it is replayed, new points go to a new segment
+            closeSegmentOutputStream();
+        }
+        try {
+            headLines = Files.readAllLines(segment, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to read spool segment '{}', skipping it: {}", segment, e.getMessage());
+            headLines = List.of();
+        }
+        headSegment = segment;
+        headPosition = 0;
+        return true;
+    }
+
+    private OutputStream getSegmentOutputStream(int length) throws IOException {
+        OutputStream outputStream = segmentOutputStream;
+        if (outputStream != null && segmentSize + length <= MAX_SEGMENT_SIZE) {
+            return outputStream;
+        }
+        closeSegmentOutputStream();
+        Files.createDirectories(directory);
+        Path segment = directory
+                .resolve(String.format("%s%010d%s", SEGMENT_PREFIX, nextSegmentNumber++, SEGMENT_SUFFIX));
+        outputStream = new FileOutputStream(segment.toFile(), true);
+        segments.addLast(segment);
+        segmentOutputStream = outputStream;
+        segmentSize = 0;
+        return outputStream;
+    }
+
+    private void closeSegmentOutputStream() {
+        OutputStream outputStream = segmentOutputStream;
+        if (outputStream != null) {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close spool segment: {}", e.getMessage());
+            }
+            segmentOutputStream = null;
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX)
+                && getSegmentNumber(path) >= 0;
+    }
+
+    private static long getSegmentNumber(Path path) {
+        String fileName = path.getFileName().toString();
+        try {
+            return Long.parseLong(
+                    fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.TimeZone;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -95,50 +96,68 @@ public class InfluxDBStateConvertUtils {
      *         the Object parameter
      */
     public static State objectToState(Object value, String itemName, @Nullable ItemRegistry itemRegistry) {
-        State state = null;
+        return getStateConverter(itemName, itemRegistry).apply(value);
+    }
+
+    public static State objectToState(Object value, Item itemToSetState) {
+        return getStateConverter(itemToSetState).apply(value);
+    }
+
+    /**
+     * Get a converter from values to {@link State}s suitable for the given {@link Item}. The item is only looked up
+     * once, so this should be used if several values of the same item are converted.
+     *
+     * @param itemName name of the {@link Item} to get the converter for
+     * @param itemRegistry the item registry
+     * @return the converter (creates {@link StringType}s if the item can't be found)
+     */
+    public static Function<Object, State> getStateConverter(String itemName, @Nullable ItemRegistry itemRegistry) {
         if (itemRegistry != null) {
             try {
-                Item item = itemRegistry.getItem(itemName);
-                state = objectToState(value, item);
+                return getStateConverter(itemRegistry.getItem(itemName));
             } catch (ItemNotFoundException e) {
                 logger.info("Could not find item '{}' in registry", itemName);
             }
         }
-
-        if (state == null) {
-            state = new StringType(String.valueOf(value));
-        }
-
-        return state;
+        return value -> new StringType(String.valueOf(value));
     }
 
-    public static State objectToState(Object value, Item itemToSetState) {
-        String valueStr = String.valueOf(value);
-
+    /**
+     * Get a converter from values to {@link State}s suitable for the given {@link Item}
+     *
+     * @param itemToSetState the {@link Item} to get the converter for
+     * @return the converter
+     */
+    public static Function<Object, State> getStateConverter(Item itemToSetState) {
         Item item = itemToSetState;
         if (item instanceof GroupItem) {
-            item = ((GroupItem) item).getBaseItem();
+            Item baseItem = ((GroupItem) item).getBaseItem();
+            if (baseItem != null) {
+                item = baseItem;
+            }
         }
         if (item instanceof ColorItem) {
-            return new HSBType(valueStr);
+            return value -> new HSBType(String.valueOf(value));
         } else if (item instanceof LocationItem) {
-            return new PointType(valueStr);
+            return value -> new PointType(String.valueOf(value));
         } else if (item instanceof NumberItem) {
-            return new DecimalType(valueStr);
+            return value -> new DecimalType(String.valueOf(value));
         } else if (item instanceof DimmerItem) {
-            return new PercentType(valueStr);
+            return value -> new PercentType(String.valueOf(value));
         } else if (item instanceof SwitchItem) {
-            return toBoolean(valueStr) ? OnOffType.ON : OnOffType.OFF;
+            return value -> toBoolean(String.valueOf(value)) ? OnOffType.ON : OnOffType.OFF;
         } else if (item instanceof ContactItem) {
-            return toBoolean(valueStr) ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            return value -> toBoolean(String.valueOf(value)) ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
         } else if (item instanceof RollershutterItem) {
-            return new PercentType(valueStr);
+            return value -> new PercentType(String.valueOf(value));
         } else if (item instanceof DateTimeItem) {
-            Instant i = Instant.ofEpochMilli(new BigDecimal(valueStr).longValue());
-            ZonedDateTime z = ZonedDateTime.ofInstant(i, TimeZone.getDefault().toZoneId());
-            return new DateTimeType(z);
+            return value -> {
+                Instant i = Instant.ofEpochMilli(new BigDecimal(String.valueOf(value)).longValue());
+                ZonedDateTime z = ZonedDateTime.ofInstant(i, TimeZone.getDefault().toZoneId());
+                return new DateTimeType(z);
+            };
         } else {
-            return new StringType(valueStr);
+            return value -> new StringType(String.valueOf(value));
         }
     }
 
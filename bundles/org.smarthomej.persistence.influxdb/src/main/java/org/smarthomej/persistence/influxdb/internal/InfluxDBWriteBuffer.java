@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBWriteBuffer} collects points and writes them in batches to the {@link InfluxDBRepository}
+ *
+ * A batch is written when the configured batch size is reached or the flush interval has passed, whatever comes first.
+ * If the buffer is full, the configured {@link BufferOverflowPolicy} is applied.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteBuffer {
+    private static final long BLOCK_CHECK_INTERVAL_MS = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBWriteBuffer.class);
+
+    private final InfluxDBRepository repository;
+    private final ScheduledExecutorService scheduler;
+    private final BlockingQueue<InfluxPoint> buffer;
+    private final int batchSize;
+    private final BufferOverflowPolicy overflowPolicy;
+    private final @Nullable Consumer<List<InfluxPoint>> failedBatchHandler;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushPending = new AtomicBoolean(false);
+    private final AtomicLong droppedPoints = new AtomicLong();
+    private final ScheduledFuture<?> flushJob;
+
+    private volatile boolean running = true;
+
+    /**
+     * Create a new write buffer
+     *
+     * @param repository the repository used for writing the batches
+     * @param scheduler the scheduler used for flushing the buffer
+     * @param configuration the configuration (batch size, flush interval, buffer size and overflow policy)
+     * @param failedBatchHandler receives batches that could not be written (may be null)
+     */
+    public InfluxDBWriteBuffer(InfluxDBRepository repository, ScheduledExecutorService scheduler,
+            InfluxDBConfiguration configuration, @Nullable Consumer<List<InfluxPoint>> failedBatchHandler) {
+        this.repository = repository;
+        this.failedBatchHandler = failedBatchHandler;
+        this.scheduler = scheduler;
+        this.batchSize = configuration.getBatchSize();
+        this.overflowPolicy = configuration.getBufferOverflowPolicy();
+        this.buffer = new ArrayBlockingQueue<>(Math.max(configuration.getMaxBufferSize(), batchSize));
+
+        int flushInterval = configuration.getFlushInterval();
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Add a point to the buffer
+     *
+     * @param point the point
+     * @return true if the point was added, false if it was dropped
+     */
+    public boolean add(InfluxPoint point) {
+        if (!running) {
+            logger.debug("Write buffer stopped, ignoring point {}", point);
+            return false;
+        }
+
+        if (overflowPolicy == BufferOverflowPolicy.BLOCK) {
+            try {
+                // wait in steps, so that blocked writers are released when the buffer is stopped
+                while (!buffer.offer(point, BLOCK_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    if (!running) {
+                        logger.debug("Write buffer stopped while waiting for space, ignoring point {}", point);
+                        return false;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        } else if (!buffer.offer(point)) {
+            // only log the first dropped point of a series to prevent flooding the log
+            if (droppedPoints.getAndIncrement() == 0) {
+                logger.warn("Write buffer is full, dropping points until space is available");
+            }
+            return false;
+        }
+
+        if (!running && buffer.remove(point)) {
+            // the buffer was stopped while adding and the final flush already happened
+            logger.debug("Write buffer stopped, ignoring point {}", point);
+            return false;
+        }
+
+        if (buffer.size() >= batchSize && flushPending.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * Write all buffered points to the repository
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushPending.set(false);
+            while (!buffer.isEmpty()) {
+                List<InfluxPoint> batch = new ArrayList<>(batchSize);
+                if (buffer.drainTo(batch, batchSize) == 0) {
+                    break;
+                }
+                try {
+                    repository.writeBatch(batch);
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to write {} points: {}", batch.size(), e.getMessage());
+                    Consumer<List<InfluxPoint>> failedBatchHandler = this.failedBatchHandler;
+                    if (failedBatchHandler != null) {
+                        failedBatchHandler.accept(batch);
+                    }
+                }
+            }
+            long dropped = droppedPoints.getAndSet(0);
+            if (dropped > 0) {
+                logger.warn("Dropped {} points because the write buffer was full", dropped);
+            }
+        }
+    }
+
+    /**
+     * Stop the buffer and write all remaining points
+     *
+     * Writers that are blocked because the buffer is full (policy {@link BufferOverflowPolicy#BLOCK}) are released and
+     * their points are dropped.
+     */
+    public void stop() {
+        running = false;
+        flushJob.cancel(false);
+        flush();
+    }
+
+    /**
+     * Get the number of points currently buffered
+     *
+     * @return the number of points
+     */
+    public int size() {
+        return buffer.size();
+    }
+}
@@ -66,6 +66,7 @@ public class InfluxPoint {
         private Instant time;
         private Object value;
         private Map<String, String> tags = new HashMap<>();
+        private boolean sharedTags = false;
 
         private Builder(String measurementName) {
             this.measurementName = measurementName;
@@ -82,10 +83,23 @@ public class InfluxPoint {
         }
 
         public Builder withTag(String name, String value) {
+            if (sharedTags) {
+                tags = new HashMap<>(tags);
+                sharedTags = false;
+            }
             tags.put(name, value);
             return this;
         }
 
+        /**
+         * Use a map of tags without copying it (the map must not be modified afterwards)
+         */
+        public Builder withTags(Map<String, String> val) {
+            tags = val;
+            sharedTags = true;
+            return this;
+        }
+
         public InfluxPoint build() {
             return new InfluxPoint(this);
         }
@@ -16,10 +16,13 @@ package org.smarthomej.persistence.influxdb.internal;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.*;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
@@ -38,6 +41,43 @@ public class ItemToStorePointCreator {
     private final InfluxDBConfiguration configuration;
     private final @Nullable MetadataRegistry metadataRegistry;
 
+    // the parts of a point that only change if the item or its metadata changes
+    private final Map<String, PointTemplate> pointTemplates = new ConcurrentHashMap<>();
+
+    private final RegistryChangeListener<Item> itemChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Item element) {
+            invalidate(element.getName());
+        }
+
+        @Override
+        public void removed(Item element) {
+            invalidate(element.getName());
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            invalidate(element.getName());
+        }
+    };
+
+    private final RegistryChangeListener<Metadata> metadataChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Metadata element) {
+            invalidate(element);
+        }
+
+        @Override
+        public void removed(Metadata element) {
+            invalidate(element);
+        }
+
+        @Override
+        public void updated(Metadata oldElement, Metadata element) {
+            invalidate(element);
+        }
+    };
+
     public ItemToStorePointCreator(InfluxDBConfiguration configuration, @Nullable MetadataRegistry metadataRegistry) {
         this.configuration = configuration;
         this.metadataRegistry = metadataRegistry;
@@ -48,22 +88,49 @@ public class ItemToStorePointCreator {
             return null;
         }
 
-        String measurementName = calculateMeasurementName(item, storeAlias);
-        String itemName = item.getName();
-        State state = getItemState(item);
+        PointTemplate pointTemplate = pointTemplates.compute(item.getName(),
+                (itemName, template) -> template != null && template.isCurrent() ? template : new PointTemplate(item));
+        String measurementName = pointTemplate.getMeasurementName(storeAlias);
+        State state = getItemState(item, pointTemplate.desiredConversion);
 
         Object value = InfluxDBStateConvertUtils.stateToObject(state);
 
-        InfluxPoint.Builder point = InfluxPoint.newBuilder(measurementName).withTime(Instant.now()).withValue(value)
-                .withTag(TAG_ITEM_NAME, itemName);
+        return InfluxPoint.newBuilder(measurementName).withTime(Instant.now()).withValue(value)
+                .withTags(pointTemplate.tags).build();
+    }
 
-        addPointTags(item, point);
+    /**
+     * Get the listener that needs to be registered at the {@link org.openhab.core.items.ItemRegistry} to remove the
+     * cached data of changed items
+     *
+     * @return the listener
+     */
+    public RegistryChangeListener<Item> getItemChangeListener() {
+        return itemChangeListener;
+    }
 
-        return point.build();
+    /**
+     * Get the listener that needs to be registered at the {@link MetadataRegistry} to remove the cached data of items
+     * with changed metadata
+     *
+     * @return the listener
+     */
+    public RegistryChangeListener<Metadata> getMetadataChangeListener() {
+        return metadataChangeListener;
     }
 
-    private String calculateMeasurementName(Item item, @Nullable String storeAlias) {
-        String name = storeAlias != null && !storeAlias.isBlank() ? storeAlias : item.getName();
+    private void invalidate(Metadata metadata) {
+        if (InfluxDBPersistenceService.SERVICE_NAME.equals(metadata.getUID().getNamespace())) {
+            invalidate(metadata.getUID().getItemName());
+        }
+    }
+
+    private void invalidate(String itemName) {
+        pointTemplates.remove(itemName);
+    }
+
+    private String calculateMeasurementName(String itemName, @Nullable String storeAlias) {
+        String name = storeAlias != null && !storeAlias.isBlank() ? storeAlias : itemName;
 
         if (configuration.isReplaceUnderscore()) {
             name = name.replace('_', '.');
@@ -72,38 +139,35 @@ public class ItemToStorePointCreator {
         return name;
     }
 
-    private State getItemState(Item item) {
-        final State state;
-        final Optional<Class<? extends State>> desiredConversion = calculateDesiredTypeConversionToStore(item);
-        if (desiredConversion.isPresent()) {
-            State convertedState = item.getStateAs(desiredConversion.get());
+    private State getItemState(Item item, @Nullable Class<? extends State> desiredConversion) {
+        if (desiredConversion != null) {
+            State convertedState = item.getStateAs(desiredConversion);
             if (convertedState != null) {
-                state = convertedState;
-            } else {
-                state = item.getState();
+                return convertedState;
             }
-        } else {
-            state = item.getState();
         }
-        return state;
+        return item.getState();
     }
 
-    private Optional<Class<? extends State>> calculateDesiredTypeConversionToStore(Item item) {
+    private @Nullable Class<? extends State> calculateDesiredTypeConversionToStore(Item item) {
         return item.getAcceptedCommandTypes().stream().filter(commandType -> commandType.isAssignableFrom(State.class))
-                .findFirst().map(commandType -> commandType.asSubclass(State.class));
+                .findFirst().map(commandType -> commandType.asSubclass(State.class)).orElse(null);
     }
 
-    private void addPointTags(Item item, InfluxPoint.Builder point) {
+    private Map<String, String> calculateTags(Item item) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put(TAG_ITEM_NAME, item.getName());
+
         if (configuration.isAddCategoryTag()) {
             String categoryName = item.getCategory();
             if (categoryName == null) {
                 categoryName = "n/a";
             }
-            point.withTag(TAG_CATEGORY_NAME, categoryName);
+            tags.put(TAG_CATEGORY_NAME, categoryName);
         }
 
         if (configuration.isAddTypeTag()) {
-            point.withTag(TAG_TYPE_NAME, item.getType());
+            tags.put(TAG_TYPE_NAME, item.getType());
         }
 
         if (configuration.isAddLabelTag()) {
@@ -111,7 +175,7 @@ public class ItemToStorePointCreator {
             if (labelName == null) {
                 labelName = "n/a";
             }
-            point.withTag(TAG_LABEL_NAME, labelName);
+            tags.put(TAG_LABEL_NAME, labelName);
         }
 
         final MetadataRegistry currentMetadataRegistry = metadataRegistry;
@@ -120,9 +184,48 @@ public class ItemToStorePointCreator {
             Metadata metadata = currentMetadataRegistry.get(key);
             if (metadata != null) {
                 metadata.getConfiguration().forEach((tagName, tagValue) -> {
-                    point.withTag(tagName, tagValue.toString());
+                    tags.put(tagName, tagValue.toString());
                 });
             }
         }
+        return Map.copyOf(tags);
+    }
+
+    private class PointTemplate {
+        private final boolean replaceUnderscore = configuration.isReplaceUnderscore();
+        private final boolean addCategoryTag = configuration.isAddCategoryTag();
+        private final boolean addTypeTag = configuration.isAddTypeTag();
+        private final boolean addLabelTag = configuration.isAddLabelTag();
+        private final String itemName;
+        private final String measurementName;
+        private final Map<String, String> tags;
+        private final @Nullable Class<? extends State> desiredConversion;
+        private final Map<String, String> aliasMeasurementNames = new ConcurrentHashMap<>();
+
+        public PointTemplate(Item item) {
+            this.itemName = item.getName();
+            this.measurementName = calculateMeasurementName(itemName, null);
+            this.tags = calculateTags(item);
+            this.desiredConversion = calculateDesiredTypeConversionToStore(item);
+        }
+
+        /**
+         * check if the template was created with the current configuration
+         *
+         * @return true if the template can be used
+         */
+        public boolean isCurrent() {
+            return replaceUnderscore == configuration.isReplaceUnderscore()
+                    && addCategoryTag == configuration.isAddCategoryTag() && addTypeTag == configuration.isAddTypeTag()
+                    && addLabelTag == configuration.isAddLabelTag();
+        }
+
+        public String getMeasurementName(@Nullable String storeAlias) {
+            if (storeAlias == null || storeAlias.isBlank()) {
+                return measurementName;
+            }
+            return aliasMeasurementNames.computeIfAbsent(storeAlias,
+                    alias -> calculateMeasurementName(itemName, alias));
+        }
     }
 }
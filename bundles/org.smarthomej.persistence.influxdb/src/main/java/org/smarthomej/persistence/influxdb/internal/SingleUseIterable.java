@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SingleUseIterable} is an {@link Iterable} that can only be iterated once
+ *
+ * It is used for streamed query results: each call to {@link #iterator()} of a re-usable {@link Iterable} would execute
+ * the query again. The returned iterator holds an open query, so callers must either read all elements or close it.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SingleUseIterable<T> implements Iterable<T> {
+    private final AtomicBoolean used = new AtomicBoolean(false);
+    private final Supplier<ClosingStreamIterator<T>> iteratorSupplier;
+
+    public SingleUseIterable(Supplier<ClosingStreamIterator<T>> iteratorSupplier) {
+        this.iteratorSupplier = iteratorSupplier;
+    }
+
+    /**
+     * get the iterator (the result must be read completely or the iterator closed)
+     *
+     * @return the iterator
+     * @throws IllegalStateException if the iterator was already requested before
+     */
+    @Override
+    public Iterator<T> iterator() {
+        if (used.getAndSet(true)) {
+            throw new IllegalStateException("The result can only be iterated once");
+        }
+        return iteratorSupplier.get();
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link StreamingQueryResult} passes rows from the asynchronous query callbacks of the clients to a consumer
+ *
+ * Only a limited number of rows is buffered, the client is blocked until the consumer has read them. If the consumer
+ * stops reading (or the stream is closed), the query is cancelled. A failed query or a timeout is reported to the
+ * consumer with an {@link InfluxDBQueryException}, so an incomplete result can't be mistaken for a complete one.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingQueryResult implements Iterator<InfluxRow> {
+    private static final int BUFFER_SIZE = 1000;
+    private static final long DEFAULT_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+    private static final InfluxRow END_OF_RESULT = new InfluxRow(Instant.EPOCH, "", "");
+
+    private final Logger logger = LoggerFactory.getLogger(StreamingQueryResult.class);
+    private final BlockingQueue<InfluxRow> rows = new ArrayBlockingQueue<>(BUFFER_SIZE);
+    private final long timeoutMs;
+
+    private volatile @Nullable Runnable cancelAction;
+    private volatile boolean closed = false;
+    private volatile @Nullable Throwable error;
+
+    private @Nullable InfluxRow nextRow;
+    private boolean finished = false;
+
+    public StreamingQueryResult() {
+        this(DEFAULT_TIMEOUT_MS);
+    }
+
+    // Visible for testing
+    StreamingQueryResult(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * set the action that cancels the running query
+     *
+     * @param cancelAction the action
+     */
+    public void setCancelAction(Runnable cancelAction) {
+        this.cancelAction = cancelAction;
+        if (closed) {
+            cancelAction.run();
+        }
+    }
+
+    /**
+     * add a row (called by the client)
+     *
+     * @param row the row
+     * @return true if the row was added, false if the query should be cancelled
+     */
+    public boolean add(InfluxRow row) {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (rows.offer(row, timeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            logger.debug("Rows have not been read for {} ms, cancelling query", timeoutMs);
+            error = new InfluxDBQueryException("Query cancelled, rows have not been read for " + timeoutMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = new InfluxDBQueryException("Query cancelled, client was interrupted", e);
+        }
+        close();
+        return false;
+    }
+
+    /**
+     * signal that all rows have been added (called by the client)
+     */
+    public void complete() {
+        add(END_OF_RESULT);
+    }
+
+    /**
+     * signal that the query failed (called by the client)
+     *
+     * @param throwable the cause
+     */
+    public void fail(Throwable throwable) {
+        error = throwable;
+        add(END_OF_RESULT);
+    }
+
+    /**
+     * check if more rows are available (blocks until a row is received)
+     *
+     * @return true if a row is available, false if the result is complete or the stream has been closed
+     * @throws InfluxDBQueryException if the query failed, timed out or the thread was interrupted
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextRow != null) {
+            return true;
+        } else if (finished || closed) {
+            throwIfFailed();
+            return false;
+        }
+
+        InfluxRow row;
+        try {
+            row = rows.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InfluxDBQueryException("Interrupted while waiting for query result", e);
+        }
+        if (row == null) {
+            close();
+            throw new InfluxDBQueryException("Query did not return rows within " + timeoutMs + " ms");
+        } else if (row == END_OF_RESULT) {
+            finished = true;
+            throwIfFailed();
+            return false;
+        }
+        nextRow = row;
+        return true;
+    }
+
+    private void throwIfFailed() {
+        Throwable error = this.error;
+        if (error instanceof InfluxDBQueryException) {
+            throw (InfluxDBQueryException) error;
+        } else if (error != null) {
+            throw new InfluxDBQueryException("Query failed: " + error.getMessage(), error);
+        }
+    }
+
+    @Override
+    public InfluxRow next() {
+        InfluxRow row = nextRow;
+        if (row == null && hasNext()) {
+            row = nextRow;
+        }
+        if (row == null) {
+            throw new NoSuchElementException();
+        }
+        nextRow = null;
+        return row;
+    }
+
+    /**
+     * stop reading rows and cancel the query if it is still running
+     *
+     * Closing the result is not reported as error to the consumer.
+     */
+    public void close() {
+        if (!closed) {
+            closed = true;
+            finished = true;
+            Runnable cancelAction = this.cancelAction;
+            if (cancelAction != null) {
+                cancelAction.run();
+            }
+            // unblock the client
+            rows.clear();
+        }
+    }
+
+    /**
+     * get the rows as stream (closing the stream cancels the query)
+     *
+     * @return the stream
+     */
+    public Stream<InfluxRow> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+}
@@ -14,19 +14,27 @@
 package org.smarthomej.persistence.influxdb.internal.influx1;
 
 import static org.influxdb.querybuilder.BuiltQuery.QueryBuilder.*;
+import static org.influxdb.querybuilder.time.DurationLiteral.MILLISECOND;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.*;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBStateConvertUtils.stateToObject;
 
+import java.time.Duration;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.dto.Query;
 import org.influxdb.querybuilder.Appender;
 import org.influxdb.querybuilder.BuiltQuery;
 import org.influxdb.querybuilder.Select;
+import org.influxdb.querybuilder.SelectionQueryImpl;
 import org.influxdb.querybuilder.Where;
 import org.influxdb.querybuilder.clauses.SimpleClause;
 import org.openhab.core.persistence.FilterCriteria;
+import org.smarthomej.persistence.influxdb.AggregateFilterCriteria;
+import org.smarthomej.persistence.influxdb.AggregateFilterCriteria.AggregateFunction;
 import org.smarthomej.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBVersion;
+import org.smarthomej.persistence.influxdb.internal.UnnexpectedConditionException;
 
 /**
  * Implementation of {@link FilterCriteriaQueryCreator} for InfluxDB 1.0
@@ -46,8 +54,21 @@ public class Influx1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQuer
             tableName = "/.*/";
         }
 
-        Select select = select(COLUMN_VALUE_NAME_V1).fromRaw(null,
-                fullQualifiedTableName(retentionPolicy, tableName, hasCriteriaName));
+        String fullQualifiedTableName = fullQualifiedTableName(retentionPolicy, tableName, hasCriteriaName);
+        @Nullable AggregateFilterCriteria aggregateCriteria = criteria instanceof AggregateFilterCriteria
+                ? (AggregateFilterCriteria) criteria
+                : null;
+        @Nullable Duration aggregateWindow = aggregateCriteria != null ? aggregateCriteria.getWindow().orElse(null)
+                : null;
+
+        Select select;
+        if (aggregateCriteria != null && aggregateWindow != null) {
+            // aggregate functions return a column named after the function, rename it to the value column
+            select = aggregateSelection(aggregateCriteria.getAggregateFunction()).as(COLUMN_VALUE_NAME_V1)
+                    .fromRaw(null, fullQualifiedTableName);
+        } else {
+            select = select(COLUMN_VALUE_NAME_V1).fromRaw(null, fullQualifiedTableName);
+        }
 
         Where where = select.where();
         if (criteria.getBeginDate() != null) {
@@ -65,6 +86,11 @@ public class Influx1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQuer
                     stateToObject(criteria.getState())));
         }
 
+        if (aggregateWindow != null) {
+            // empty windows would be returned with a null value otherwise
+            select = select.groupBy(time(aggregateWindow.toMillis(), MILLISECOND)).fill("none");
+        }
+
         if (criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
             select = select.orderBy(desc());
         } else if (criteria.getOrdering() == FilterCriteria.Ordering.ASCENDING) {
@@ -83,6 +109,21 @@ public class Influx1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQuer
         return query.getCommand();
     }
 
+    private SelectionQueryImpl aggregateSelection(AggregateFunction aggregateFunction) {
+        switch (aggregateFunction) {
+            case MEAN:
+                return select().mean(COLUMN_VALUE_NAME_V1);
+            case MIN:
+                return select().min(COLUMN_VALUE_NAME_V1);
+            case MAX:
+                return select().max(COLUMN_VALUE_NAME_V1);
+            case LAST:
+                return select().last(COLUMN_VALUE_NAME_V1);
+            default:
+                throw new UnnexpectedConditionException("Not expected aggregate function " + aggregateFunction);
+        }
+    }
+
     private String fullQualifiedTableName(String retentionPolicy, String tableName, boolean escapeTableName) {
         StringBuilder sb = new StringBuilder();
         Appender.appendName(retentionPolicy, sb);
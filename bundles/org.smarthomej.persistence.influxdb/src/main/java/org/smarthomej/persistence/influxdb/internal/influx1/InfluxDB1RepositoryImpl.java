@@ -16,18 +16,22 @@ package org.smarthomej.persistence.influxdb.internal.influx1;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.COLUMN_TIME_NAME_V1;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.COLUMN_VALUE_NAME_V1;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.InfluxDB;
 import org.influxdb.InfluxDBFactory;
+import org.influxdb.dto.BatchPoints;
 import org.influxdb.dto.Point;
 import org.influxdb.dto.Pong;
 import org.influxdb.dto.Query;
@@ -39,6 +43,7 @@ import org.smarthomej.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
 import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
+import org.smarthomej.persistence.influxdb.internal.StreamingQueryResult;
 import org.smarthomej.persistence.influxdb.internal.UnnexpectedConditionException;
 
 /**
@@ -49,6 +54,8 @@ import org.smarthomej.persistence.influxdb.internal.UnnexpectedConditionExceptio
  */
 @NonNullByDefault
 public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(InfluxDB1RepositoryImpl.class);
     private InfluxDBConfiguration configuration;
     @Nullable
@@ -69,7 +76,6 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                 configuration.getPassword());
         createdClient.setDatabase(configuration.getDatabaseName());
         createdClient.setRetentionPolicy(configuration.getRetentionPolicy());
-        createdClient.enableBatch(200, 100, TimeUnit.MILLISECONDS);
         this.client = createdClient;
         return checkConnectionStatus();
     }
@@ -112,14 +118,15 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public void write(InfluxPoint point) {
+    public void writeBatch(List<InfluxPoint> points) {
         final InfluxDB currentClient = this.client;
-        if (currentClient != null) {
-            Point clientPoint = convertPointToClientFormat(point);
-            currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(), clientPoint);
-        } else {
-            logger.warn("Write point {} ignored due to client isn't connected", point);
+        if (currentClient == null) {
+            throw new IllegalStateException("Write of " + points.size() + " points failed, client isn't connected");
         }
+        BatchPoints batchPoints = BatchPoints.database(configuration.getDatabaseName())
+                .retentionPolicy(configuration.getRetentionPolicy()).build();
+        points.forEach(point -> batchPoints.point(convertPointToClientFormat(point)));
+        currentClient.write(batchPoints);
     }
 
     private Point convertPointToClientFormat(InfluxPoint point) {
@@ -157,6 +164,27 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
         }
     }
 
+    @Override
+    public Stream<InfluxRow> queryStream(String query) {
+        final InfluxDB currentClient = client;
+        if (currentClient != null) {
+            StreamingQueryResult result = new StreamingQueryResult();
+            Query parsedQuery = new Query(query, configuration.getDatabaseName());
+            currentClient.query(parsedQuery, QUERY_CHUNK_SIZE, (cancellable, queryResult) -> {
+                result.setCancelAction(cancellable::cancel);
+                for (InfluxRow row : convertClientResutToRepository(queryResult.getResults())) {
+                    if (!result.add(row)) {
+                        break;
+                    }
+                }
+            }, result::complete, result::fail);
+            return result.stream();
+        } else {
+            logger.warn("Returning empty stream because queryAPI isn't present");
+            return Stream.empty();
+        }
+    }
+
     private List<InfluxRow> convertClientResutToRepository(List<QueryResult.Result> results) {
         List<InfluxRow> rows = new ArrayList<>();
         for (QueryResult.Result result : results) {
@@ -192,9 +220,12 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                                 throw new IllegalStateException("missing column");
                             }
                             for (int i = 0; i < valuess.size(); i++) {
-                                Double rawTime = (Double) valuess.get(i).get(timestampColumn);
-                                Instant time = Instant.ofEpochMilli(rawTime.longValue());
+                                Instant time = parseTime(valuess.get(i).get(timestampColumn));
                                 Object value = valuess.get(i).get(valueColumn);
+                                if (value == null) {
+                                    // empty windows of aggregated queries
+                                    continue;
+                                }
                                 logger.trace("adding historic item {}: time {} value {}", itemName, time, value);
                                 rows.add(new InfluxRow(time, itemName, value));
                             }
@@ -206,8 +237,58 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
         return rows;
     }
 
+    private Instant parseTime(Object rawTime) {
+        // chunked queries can't request epoch timestamps and return RFC3339 strings
+        if (rawTime instanceof String) {
+            return Instant.parse((String) rawTime);
+        }
+        return Instant.ofEpochMilli(((Number) rawTime).longValue());
+    }
+
+    /**
+     * Return all stored item names with it's count of stored points
+     *
+     * @return Map with <ItemName,ItemCount> entries
+     */
     @Override
     public Map<String, Integer> getStoredItemsCount() {
-        return Collections.emptyMap();
+        final InfluxDB currentClient = client;
+        if (currentClient != null) {
+            Map<String, Integer> result = new LinkedHashMap<>();
+            // one series per measurement and item, items may be stored in several measurements (aliases)
+            String query = "SELECT count(\"" + FIELD_VALUE_NAME + "\") FROM \"" + configuration.getRetentionPolicy()
+                    + "\"./.*/ GROUP BY \"" + TAG_ITEM_NAME + "\"";
+            Query parsedQuery = new Query(query, configuration.getDatabaseName());
+            for (QueryResult.Result queryResult : currentClient.query(parsedQuery).getResults()) {
+                if (queryResult.getError() != null) {
+                    logger.warn("{}", queryResult.getError());
+                    continue;
+                }
+                List<QueryResult.Series> seriess = queryResult.getSeries();
+                if (seriess == null) {
+                    continue;
+                }
+                for (QueryResult.Series series : seriess) {
+                    Map<String, String> tags = series.getTags();
+                    String itemName = tags == null ? null : tags.get(TAG_ITEM_NAME);
+                    List<List<Object>> valuess = series.getValues();
+                    List<String> columns = series.getColumns();
+                    int countColumn = columns == null ? -1 : columns.indexOf("count");
+                    if (itemName == null || valuess == null || countColumn == -1) {
+                        continue;
+                    }
+                    for (List<Object> values : valuess) {
+                        Object count = values.get(countColumn);
+                        if (count instanceof Number) {
+                            result.merge(itemName, ((Number) count).intValue(), Integer::sum);
+                        }
+                    }
+                }
+            }
+            return result;
+        } else {
+            logger.warn("Returning empty result because client isn't present");
+            return Collections.emptyMap();
+        }
     }
 }
@@ -17,10 +17,14 @@ import static com.influxdb.query.dsl.functions.restriction.Restrictions.measurem
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.*;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBStateConvertUtils.stateToObject;
 
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.persistence.FilterCriteria;
+import org.smarthomej.persistence.influxdb.AggregateFilterCriteria;
 import org.smarthomej.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBVersion;
 
@@ -61,6 +65,17 @@ public class Influx2FilterCriteriaQueryCreatorImpl implements FilterCriteriaQuer
             flux = flux.filter(restrictions);
         }
 
+        if (criteria instanceof AggregateFilterCriteria) {
+            AggregateFilterCriteria aggregateCriteria = (AggregateFilterCriteria) criteria;
+            Optional<Duration> aggregateWindow = aggregateCriteria.getWindow();
+            if (aggregateWindow.isPresent()) {
+                flux = flux
+                        .aggregateWindow(aggregateWindow.get().toMillis(), ChronoUnit.MILLIS,
+                                aggregateCriteria.getAggregateFunction().name().toLowerCase(Locale.ROOT))
+                        .withPropertyValue("createEmpty", false).withPropertyValueEscaped("timeSrc", "_start");
+            }
+        }
+
         if (criteria.getOrdering() != null) {
             boolean desc = criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING;
             flux = flux.sort().withDesc(desc).withColumns(new String[] { COLUMN_TIME_NAME_V2 });
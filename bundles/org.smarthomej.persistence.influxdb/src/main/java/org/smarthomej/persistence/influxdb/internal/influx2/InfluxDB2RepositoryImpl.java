@@ -29,16 +29,21 @@ import org.smarthomej.persistence.influxdb.internal.InfluxDBConstants;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
 import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
+import org.smarthomej.persistence.influxdb.internal.StreamingQueryResult;
 import org.smarthomej.persistence.influxdb.internal.UnnexpectedConditionException;
 
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.QueryApi;
-import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.domain.Bucket;
+import com.influxdb.client.domain.BucketRetentionRules;
 import com.influxdb.client.domain.Ready;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
+import com.influxdb.exceptions.InfluxException;
+import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
 
 /**
@@ -48,6 +53,9 @@ import com.influxdb.query.FluxTable;
  */
 @NonNullByDefault
 public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
+    // used for counting if the bucket has no retention limit or it can't be determined, so the query stays bounded
+    private static final String DEFAULT_RETENTION_START = "-365d";
+
     private final Logger logger = LoggerFactory.getLogger(InfluxDB2RepositoryImpl.class);
     private InfluxDBConfiguration configuration;
     @Nullable
@@ -55,7 +63,7 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     @Nullable
     private QueryApi queryAPI;
     @Nullable
-    private WriteApi writeAPI;
+    private WriteApiBlocking writeAPI;
 
     public InfluxDB2RepositoryImpl(InfluxDBConfiguration configuration) {
         this.configuration = configuration;
@@ -92,7 +100,8 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         this.client = createdClient;
         logger.debug("Succesfully connected to InfluxDB. Instance ready={}", createdClient.ready());
         queryAPI = createdClient.getQueryApi();
-        writeAPI = createdClient.getWriteApi();
+        // batching is done by the write buffer, so the client must not batch again but send each batch immediately
+        writeAPI = createdClient.getWriteApiBlocking();
         return checkConnectionStatus();
     }
 
@@ -106,6 +115,8 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
             currentClient.close();
         }
         this.client = null;
+        this.queryAPI = null;
+        this.writeAPI = null;
     }
 
     /**
@@ -132,18 +143,21 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     }
 
     /**
-     * Write point to database
+     * Write points to database
+     *
+     * The points are written synchronously, so the write is confirmed by the server when this method returns.
      *
-     * @param point
+     * @param points
+     * @throws IllegalStateException if the client is not connected
+     * @throws com.influxdb.exceptions.InfluxException if the write failed
      */
     @Override
-    public void write(InfluxPoint point) {
-        final WriteApi currentWriteAPI = writeAPI;
-        if (currentWriteAPI != null) {
-            currentWriteAPI.writePoint(convertPointToClientFormat(point));
-        } else {
-            logger.warn("Write point {} ignored due to writeAPI isn't present", point);
+    public void writeBatch(List<InfluxPoint> points) {
+        final WriteApiBlocking currentWriteAPI = writeAPI;
+        if (currentWriteAPI == null) {
+            throw new IllegalStateException("Write of " + points.size() + " points failed, writeAPI isn't present");
         }
+        currentWriteAPI.writePoints(points.stream().map(this::convertPointToClientFormat).collect(Collectors.toList()));
     }
 
     private Point convertPointToClientFormat(InfluxPoint point) {
@@ -185,22 +199,52 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         }
     }
 
+    /**
+     * Executes Flux query and returns the rows while they are received
+     *
+     * @param query Query
+     * @return Stream of query results
+     */
+    @Override
+    public Stream<InfluxRow> queryStream(String query) {
+        final QueryApi currentQueryAPI = queryAPI;
+        if (currentQueryAPI != null) {
+            StreamingQueryResult result = new StreamingQueryResult();
+            currentQueryAPI.query(query, (cancellable, record) -> {
+                result.setCancelAction(cancellable::cancel);
+                if (!result.add(mapRecordToRow(record))) {
+                    cancellable.cancel();
+                }
+            }, result::fail, result::complete);
+            return result.stream();
+        } else {
+            logger.warn("Returning empty stream because queryAPI isn't present");
+            return Stream.empty();
+        }
+    }
+
     private List<InfluxRow> convertClientResutToRepository(List<FluxTable> clientResult) {
         return clientResult.stream().flatMap(this::mapRawResultToHistoric).collect(Collectors.toList());
     }
 
     private Stream<InfluxRow> mapRawResultToHistoric(FluxTable rawRow) {
-        return rawRow.getRecords().stream().map(r -> {
-            String itemName = (String) r.getValueByKey(InfluxDBConstants.TAG_ITEM_NAME);
-            Object value = r.getValueByKey(COLUMN_VALUE_NAME_V2);
-            Instant time = (Instant) r.getValueByKey(COLUMN_TIME_NAME_V2);
-            return new InfluxRow(time, itemName, value);
-        });
+        return rawRow.getRecords().stream().map(this::mapRecordToRow);
+    }
+
+    private InfluxRow mapRecordToRow(FluxRecord record) {
+        String itemName = (String) record.getValueByKey(InfluxDBConstants.TAG_ITEM_NAME);
+        Object value = record.getValueByKey(COLUMN_VALUE_NAME_V2);
+        Instant time = (Instant) record.getValueByKey(COLUMN_TIME_NAME_V2);
+        return new InfluxRow(time, itemName, value);
     }
 
     /**
      * Return all stored item names with it's count of stored points
      *
+     * Only the retention period of the bucket is queried (older points are removed by the database anyway). If the
+     * bucket keeps points forever, only the last year is counted. The points are counted per series before grouping by
+     * item, so the counting can be done by the storage engine.
+     *
      * @return Map with <ItemName,ItemCount> entries
      */
     @Override
@@ -210,15 +254,19 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         if (currentQueryAPI != null) {
             Map<String, Integer> result = new LinkedHashMap<>();
             // Query wrote by hand https://github.com/influxdata/influxdb-client-java/issues/75
-            String query = "from(bucket: \"" + configuration.getRetentionPolicy() + "\")\n"
-                    + "  |> range(start:-365d)\n" + "  |> filter(fn: (r) => exists r." + TAG_ITEM_NAME + " )\n"
-                    + "  |> group(columns: [\"" + TAG_ITEM_NAME + "\"], mode:\"by\")\n" + "  |> count()\n"
-                    + "  |> group()";
+            String query = "from(bucket: \"" + configuration.getRetentionPolicy() + "\")\n" + "  |> range(start: "
+                    + getRetentionStart() + ")\n" + "  |> filter(fn: (r) => r._field == \"" + FIELD_VALUE_NAME
+                    + "\")\n" + "  |> count()\n" + "  |> group(columns: [\"" + TAG_ITEM_NAME + "\"], mode:\"by\")\n"
+                    + "  |> sum()\n" + "  |> group()";
 
             List<FluxTable> queryResult = currentQueryAPI.query(query);
             Objects.requireNonNull(queryResult.stream().findFirst().orElse(new FluxTable())).getRecords()
                     .forEach(row -> {
-                        result.put((String) row.getValueByKey(TAG_ITEM_NAME), ((Number) row.getValue()).intValue());
+                        Object itemName = row.getValueByKey(TAG_ITEM_NAME);
+                        Object count = row.getValue();
+                        if (itemName instanceof String && count instanceof Number) {
+                            result.put((String) itemName, ((Number) count).intValue());
+                        }
                     });
             return result;
         } else {
@@ -226,4 +274,31 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
             return Collections.emptyMap();
         }
     }
+
+    /**
+     * get the start of the retention period of the bucket
+     *
+     * @return a relative duration (e.g. -2592000s) or {@link #DEFAULT_RETENTION_START} if the bucket has no retention
+     *         limit or it can't be determined
+     */
+    private String getRetentionStart() {
+        final InfluxDBClient currentClient = client;
+        if (currentClient != null) {
+            try {
+                Bucket bucket = currentClient.getBucketsApi().findBucketByName(configuration.getRetentionPolicy());
+                if (bucket != null) {
+                    long retention = bucket.getRetentionRules().stream().map(BucketRetentionRules::getEverySeconds)
+                            .filter(Objects::nonNull).mapToLong(Integer::longValue).filter(seconds -> seconds > 0)
+                            .min().orElse(0);
+                    if (retention > 0) {
+                        return "-" + retention + "s";
+                    }
+                }
+            } catch (InfluxException e) {
+                logger.debug("Could not determine retention period of bucket '{}': {}",
+                        configuration.getRetentionPolicy(), e.getMessage());
+            }
+        }
+        return DEFAULT_RETENTION_START;
+    }
 }
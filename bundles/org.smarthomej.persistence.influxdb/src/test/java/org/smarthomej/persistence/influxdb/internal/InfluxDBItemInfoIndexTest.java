@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.persistence.PersistenceItemInfo;
+
+/**
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault(value = { DefaultLocation.PARAMETER, DefaultLocation.RETURN_TYPE })
+public class InfluxDBItemInfoIndexTest {
+    private static final Instant T1 = Instant.ofEpochSecond(1000);
+    private static final Instant T2 = Instant.ofEpochSecond(2000);
+    private static final Instant T3 = Instant.ofEpochSecond(3000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void storedPointsAreCounted() {
+        InfluxDBItemInfoIndex index = new InfluxDBItemInfoIndex(null);
+        index.add("item1", T2);
+        index.add("item1", T1);
+        index.add("item1", T3);
+        index.add("item2", T2);
+
+        PersistenceItemInfo item1 = getItemInfo(index.getItemInfo(), "item1");
+        assertThat(item1.getCount(), is(3));
+        assertThat(item1.getEarliest(), is(Date.from(T1)));
+        assertThat(item1.getLatest(), is(Date.from(T3)));
+        assertThat(getItemInfo(index.getItemInfo(), "item2").getCount(), is(1));
+    }
+
+    @Test
+    public void reconcileReplacesCounts() {
+        InfluxDBItemInfoIndex index = new InfluxDBItemInfoIndex(null);
+        index.add("item1", T1);
+        index.add("removed", T1);
+        index.add("buffered", T3);
+
+        index.reconcile(Map.of("item1", 42, "item3", 7), T2);
+
+        Set<PersistenceItemInfo> itemInfo = index.getItemInfo();
+        assertThat(itemInfo, hasSize(3));
+        assertThat(getItemInfo(itemInfo, "item1").getCount(), is(42));
+        // the database contains points that were not stored through the index
+        assertThat(getItemInfo(itemInfo, "item1").getEarliest(), is(nullValue()));
+        assertThat(getItemInfo(itemInfo, "item1").getLatest(), is(Date.from(T1)));
+        assertThat(getItemInfo(itemInfo, "item3").getCount(), is(7));
+        assertThat(getItemInfo(itemInfo, "item3").getEarliest(), is(nullValue()));
+        // stored after the reconciliation started, not yet in database
+        assertThat(getItemInfo(itemInfo, "buffered").getCount(), is(1));
+    }
+
+    @Test
+    public void earliestPointIsKnownIfCountsMatch() {
+        InfluxDBItemInfoIndex index = new InfluxDBItemInfoIndex(null);
+        index.add("item1", T1);
+        index.add("item1", T2);
+        index.reconcile(Map.of("item1", 2, "item2", 5), T3);
+        index.add("item1", T3);
+        index.add("item2", T3);
+
+        Set<PersistenceItemInfo> itemInfo = index.getItemInfo();
+        PersistenceItemInfo item1 = getItemInfo(itemInfo, "item1");
+        assertThat(item1.getCount(), is(3));
+        assertThat(item1.getEarliest(), is(Date.from(T1)));
+        assertThat(item1.getLatest(), is(Date.from(T3)));
+        PersistenceItemInfo item2 = getItemInfo(itemInfo, "item2");
+        assertThat(item2.getCount(), is(6));
+        // the earliest of the five points in the database is unknown
+        assertThat(item2.getEarliest(), is(nullValue()));
+        assertThat(item2.getLatest(), is(Date.from(T3)));
+
+        // points were removed from the database (e.g. by the retention policy)
+        index.reconcile(Map.of("item1", 2, "item2", 6), T3.plusSeconds(1));
+        assertThat(getItemInfo(index.getItemInfo(), "item1").getEarliest(), is(nullValue()));
+    }
+
+    @Test
+    public void indexIsRestoredFromFile() {
+        Path file = directory.resolve("itemindex");
+        InfluxDBItemInfoIndex index = new InfluxDBItemInfoIndex(file);
+        index.add("item1", T1);
+        index.add("item1", T2);
+        index.reconcile(Map.of("item1", 2, "item2", 5), T3);
+        index.save();
+
+        InfluxDBItemInfoIndex restoredIndex = new InfluxDBItemInfoIndex(file);
+        restoredIndex.load();
+        Set<PersistenceItemInfo> itemInfo = restoredIndex.getItemInfo();
+        assertThat(itemInfo, hasSize(2));
+        PersistenceItemInfo item1 = getItemInfo(itemInfo, "item1");
+        assertThat(item1.getCount(), is(2));
+        assertThat(item1.getEarliest(), is(Date.from(T1)));
+        assertThat(item1.getLatest(), is(Date.from(T2)));
+        PersistenceItemInfo item2 = getItemInfo(itemInfo, "item2");
+        assertThat(item2.getCount(), is(5));
+        assertThat(item2.getLatest(), is(nullValue()));
+    }
+
+    private PersistenceItemInfo getItemInfo(Set<PersistenceItemInfo> itemInfo, String name) {
+        return itemInfo.stream().filter(info -> name.equals(info.getName())).findAny()
+                .orElseThrow(() -> new AssertionError("No item info for " + name));
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault(value = { DefaultLocation.PARAMETER, DefaultLocation.RETURN_TYPE })
+public class InfluxDBLineProtocolTest {
+
+    @Test
+    public void encodePoint() {
+        InfluxPoint point = InfluxPoint.newBuilder("my item").withTime(Instant.ofEpochMilli(1234))
+                .withValue(new BigDecimal("1.50")).withTag("item", "my,item").build();
+        assertThat(InfluxDBLineProtocol.encode(point), is("my\\ item,item=my\\,item value=1.50 1234"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void roundTrip(Object value) {
+        InfluxPoint point = InfluxPoint.newBuilder("measure,ment").withTime(Instant.ofEpochMilli(1600000000000L))
+                .withValue(value).withTag("item", "a=b c").withTag("label", "My \"Lamp\"").build();
+        String line = InfluxDBLineProtocol.encode(point);
+        if (line == null) {
+            throw new AssertionError("line is null");
+        }
+        InfluxPoint decoded = InfluxDBLineProtocol.decode(line);
+        if (decoded == null) {
+            throw new AssertionError("decoded point is null");
+        }
+
+        assertThat(decoded.getMeasurementName(), is(point.getMeasurementName()));
+        assertThat(decoded.getTime(), is(point.getTime()));
+        assertThat(decoded.getTags(), is(point.getTags()));
+        assertThat(decoded.getValue(), is(value instanceof Integer ? Long.valueOf((Integer) value) : value));
+    }
+
+    @SuppressWarnings("unused")
+    private static Stream<Object> roundTrip() {
+        return Stream.of(new BigDecimal("-17.25"), 1, 1600000000000L, true, "string with \"quotes\", spaces and\nlines",
+                "back\\slash", "");
+    }
+
+    @Test
+    public void decodeInvalidLines() {
+        assertThat(InfluxDBLineProtocol.decode(""), is(nullValue()));
+        assertThat(InfluxDBLineProtocol.decode("measurement value=1"), is(nullValue()));
+        assertThat(InfluxDBLineProtocol.decode("measurement other=1 1234"), is(nullValue()));
+        assertThat(InfluxDBLineProtocol.decode("measurement value=abc 1234"), is(nullValue()));
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault(value = { DefaultLocation.PARAMETER, DefaultLocation.RETURN_TYPE })
+public class InfluxDBSpoolTest {
+    @TempDir
+    Path spoolDirectory;
+
+    @Test
+    public void pointsAreReplayedInOrder() {
+        InfluxDBSpool spool = new InfluxDBSpool(spoolDirectory, 1024 * 1024);
+        assertThat(spool.isEmpty(), is(true));
+        assertThat(spool.append(createPoints(0, 5)), is(true));
+        assertThat(spool.isEmpty(), is(false));
+
+        assertThat(values(spool.peek(3)), contains(0L, 1L, 2L));
+        // not committed, same points are returned again
+        assertThat(values(spool.peek(3)), contains(0L, 1L, 2L));
+        spool.commit();
+
+        // points appended during replay are returned after the current segment
+        assertThat(spool.append(createPoints(5, 2)), is(true));
+        assertThat(values(spool.peek(3)), contains(3L, 4L));
+        spool.commit();
+        assertThat(values(spool.peek(3)), contains(5L, 6L));
+        spool.commit();
+
+        assertThat(spool.isEmpty(), is(true));
+        assertThat(spool.peek(3), is(empty()));
+        assertThat(spoolDirectory.toFile().list(), is(emptyArray()));
+    }
+
+    @Test
+    public void spooledPointsSurviveRestart() {
+        InfluxDBSpool spool = new InfluxDBSpool(spoolDirectory, 1024 * 1024);
+        spool.append(createPoints(0, 3));
+        spool.close();
+
+        InfluxDBSpool restartedSpool = new InfluxDBSpool(spoolDirectory, 1024 * 1024);
+        assertThat(restartedSpool.isEmpty(), is(false));
+        assertThat(values(restartedSpool.peek(10)), contains(0L, 1L, 2L));
+    }
+
+    @Test
+    public void pointsAreDroppedIfSpoolIsFull() {
+        InfluxDBSpool spool = new InfluxDBSpool(spoolDirectory, 100);
+        assertThat(spool.append(createPoints(0, 1)), is(true));
+        assertThat(spool.append(createPoints(1, 10)), is(false));
+        assertThat(values(spool.peek(10)), contains(0L));
+    }
+
+    private List<InfluxPoint> createPoints(int start, int count) {
+        return IntStream.range(start, start + count).mapToObj(i -> InfluxPoint.newBuilder("test")
+                .withTime(Instant.ofEpochMilli(i)).withValue(i).withTag("item", "test").build())
+                .collect(Collectors.toList());
+    }
+
+    private List<Object> values(List<InfluxPoint> points) {
+        return points.stream().map(InfluxPoint::getValue).collect(Collectors.toList());
+    }
+}
@@ -16,16 +16,21 @@ package org.smarthomej.persistence.influxdb.internal;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.library.items.ContactItem;
 import org.openhab.core.library.items.DateTimeItem;
 import org.openhab.core.library.items.NumberItem;
@@ -34,6 +39,8 @@ import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
 
 /**
  * @author Joan Pujol Espinar - Initial contribution
@@ -99,4 +106,19 @@ public class InfluxDBStateConvertUtilsTest {
                 ZonedDateTime.ofInstant(Instant.ofEpochMilli(val), ZoneId.systemDefault()));
         assertThat(InfluxDBStateConvertUtils.objectToState(val, item), equalTo(expected));
     }
+
+    @Test
+    public void stateConverterResolvesItemOnce() throws ItemNotFoundException {
+        ItemRegistry itemRegistry = mock(ItemRegistry.class);
+        when(itemRegistry.getItem("number")).thenReturn(new GroupItem("number", new NumberItem("base")));
+        when(itemRegistry.getItem("unknown")).thenThrow(new ItemNotFoundException("unknown"));
+
+        Function<Object, State> converter = InfluxDBStateConvertUtils.getStateConverter("number", itemRegistry);
+        assertThat(converter.apply(new BigDecimal("1.5")), equalTo(new DecimalType("1.5")));
+        assertThat(converter.apply(2L), equalTo(new DecimalType(2L)));
+        verify(itemRegistry, times(1)).getItem("number");
+
+        converter = InfluxDBStateConvertUtils.getStateConverter("unknown", itemRegistry);
+        assertThat(converter.apply(1), equalTo(new StringType("1")));
+    }
 }
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * @author Jan N. Klug - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault(value = { DefaultLocation.PARAMETER, DefaultLocation.RETURN_TYPE })
+public class InfluxDBWriteBufferTest {
+    private @Mock InfluxDBRepository influxDBRepository;
+    private @Mock ScheduledExecutorService scheduler;
+    private @Mock ScheduledFuture<?> flushJob;
+
+    @BeforeEach
+    public void before() {
+        doReturn(flushJob).when(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void pointsAreWrittenInBatches() {
+        InfluxDBWriteBuffer writeBuffer = createWriteBuffer(BufferOverflowPolicy.DROP);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertTrue(writeBuffer.add(createPoint(i)));
+        }
+        writeBuffer.flush();
+
+        verify(influxDBRepository, times(2)).writeBatch(argThat(points -> points.size() == 2));
+        verify(influxDBRepository).writeBatch(argThat(points -> points.size() == 1));
+        Assertions.assertEquals(0, writeBuffer.size());
+    }
+
+    @Test
+    public void fullBatchSchedulesFlush() {
+        InfluxDBWriteBuffer writeBuffer = createWriteBuffer(BufferOverflowPolicy.DROP);
+        writeBuffer.add(createPoint(0));
+        verify(scheduler, never()).execute(any());
+        writeBuffer.add(createPoint(1));
+        verify(scheduler).execute(any());
+    }
+
+    @Test
+    public void pointsAreDroppedIfBufferIsFull() {
+        InfluxDBWriteBuffer writeBuffer = createWriteBuffer(BufferOverflowPolicy.DROP);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(writeBuffer.add(createPoint(i)));
+        }
+        Assertions.assertFalse(writeBuffer.add(createPoint(4)));
+        Assertions.assertEquals(4, writeBuffer.size());
+    }
+
+    @Test
+    public void stopWritesPendingPoints() {
+        InfluxDBWriteBuffer writeBuffer = createWriteBuffer(BufferOverflowPolicy.BLOCK);
+        writeBuffer.add(createPoint(0));
+        writeBuffer.stop();
+
+        verify(flushJob).cancel(false);
+        verify(influxDBRepository).writeBatch(argThat(points -> points.size() == 1));
+        Assertions.assertFalse(writeBuffer.add(createPoint(1)));
+    }
+
+    @Test
+    public void failedBatchesArePassedToHandler() {
+        List<List<InfluxPoint>> failedBatches = new ArrayList<>();
+        doThrow(new IllegalStateException("not connected")).when(influxDBRepository).writeBatch(any());
+        InfluxDBWriteBuffer writeBuffer = createWriteBuffer(BufferOverflowPolicy.DROP, failedBatches::add);
+        for (int i = 0; i < 3; i++) {
+            writeBuffer.add(createPoint(i));
+        }
+        writeBuffer.flush();
+
+        Assertions.assertEquals(2, failedBatches.size());
+        Assertions.assertEquals(2, failedBatches.get(0).size());
+        Assertions.assertEquals(1, failedBatches.get(1).size());
+        Assertions.assertEquals(0, writeBuffer.size());
+    }
+
+    @Test
+    public void stopReleasesBlockedWriters() throws Exception {
+        InfluxDBWriteBuffer writeBuffer = createWriteBuffer(BufferOverflowPolicy.BLOCK);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(writeBuffer.add(createPoint(i)));
+        }
+        CompletableFuture<Boolean> blockedWriter = CompletableFuture.supplyAsync(() -> writeBuffer.add(createPoint(4)));
+        Thread.sleep(200);
+        Assertions.assertFalse(blockedWriter.isDone());
+
+        writeBuffer.stop();
+
+        // the writer is released, the point is either written by the final flush or dropped
+        blockedWriter.get(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(0, writeBuffer.size());
+    }
+
+    private InfluxDBWriteBuffer createWriteBuffer(BufferOverflowPolicy policy) {
+        return createWriteBuffer(policy, null);
+    }
+
+    private InfluxDBWriteBuffer createWriteBuffer(BufferOverflowPolicy policy,
+            @Nullable Consumer<List<InfluxPoint>> failedBatchHandler) {
+        Map<String, Object> config = ConfigurationTestHelper.createValidConfigurationParameters();
+        config.put(InfluxDBConfiguration.BATCH_SIZE_PARAM, 2);
+        config.put(InfluxDBConfiguration.FLUSH_INTERVAL_PARAM, 1000);
+        config.put(InfluxDBConfiguration.MAX_BUFFER_SIZE_PARAM, 4);
+        config.put(InfluxDBConfiguration.BUFFER_OVERFLOW_POLICY_PARAM, policy.name());
+        return new InfluxDBWriteBuffer(influxDBRepository, scheduler, new InfluxDBConfiguration(config),
+                failedBatchHandler);
+    }
+
+    private InfluxPoint createPoint(int value) {
+        return InfluxPoint.newBuilder("test").withTime(Instant.now()).withValue(value).build();
+    }
+}
@@ -13,9 +13,14 @@
  */
 package org.smarthomej.persistence.influxdb.internal;
 
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -28,6 +33,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.persistence.FilterCriteria;
+import org.smarthomej.persistence.influxdb.AggregateFilterCriteria;
 import org.smarthomej.persistence.influxdb.internal.influx1.Influx1FilterCriteriaQueryCreatorImpl;
 import org.smarthomej.persistence.influxdb.internal.influx2.Influx2FilterCriteriaQueryCreatorImpl;
 
@@ -160,6 +166,76 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
                         + "|> sort(desc:false, columns:[\"_time\"])"));
     }
 
+    @Test
+    public void testAggregateQuery() {
+        AggregateFilterCriteria criteria = new AggregateFilterCriteria();
+        criteria.setItemName(ITEM_NAME);
+        criteria.setOrdering(null);
+        ZonedDateTime now = ZonedDateTime.now();
+        criteria.setBeginDate(now.minus(1, ChronoUnit.DAYS));
+        criteria.setEndDate(now);
+        criteria.setAggregateFunction(AggregateFilterCriteria.AggregateFunction.MAX).setBuckets(24);
+
+        String queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV1, startsWith("SELECT max(value) AS value FROM origin.sampleItem WHERE"));
+        assertThat(queryV1, endsWith(" GROUP BY time(3600000ms) fill(none);"));
+
+        String queryV2 = instanceV2.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV2, containsString("|> aggregateWindow("));
+        assertThat(queryV2, containsString("every:3600000ms"));
+        assertThat(queryV2, containsString("fn:max"));
+        assertThat(queryV2, containsString("createEmpty:false"));
+    }
+
+    @Test
+    public void testAggregateQueryUsesWindowStart() {
+        AggregateFilterCriteria criteria = new AggregateFilterCriteria();
+        criteria.setItemName(ITEM_NAME);
+        criteria.setOrdering(null);
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime yesterday = now.minus(1, ChronoUnit.DAYS);
+        criteria.setBeginDate(yesterday);
+        criteria.setEndDate(now);
+        criteria.setAggregateFunction(AggregateFilterCriteria.AggregateFunction.MEAN).setBuckets(24);
+
+        String queryV2 = instanceV2.createQuery(criteria, RETENTION_POLICY);
+        String expectedQueryV2 = String.format("from(bucket:\"origin\")\n\t" + "|> range(start:%s, stop:%s)\n\t"
+                + "|> filter(fn: (r) => r[\"_measurement\"] == \"sampleItem\")\n\t"
+                + "|> aggregateWindow(every:3600000ms, fn:mean, createEmpty:false, timeSrc:\"_start\")",
+                INFLUX2_DATE_FORMATTER.format(yesterday.toInstant()), INFLUX2_DATE_FORMATTER.format(now.toInstant()));
+        assertThat(queryV2, equalTo(expectedQueryV2));
+    }
+
+    @Test
+    public void testAggregateQueryWithoutWindowIsNotAggregated() {
+        AggregateFilterCriteria criteria = new AggregateFilterCriteria();
+        criteria.setItemName(ITEM_NAME);
+        criteria.setOrdering(null);
+        // buckets need begin and end date
+        criteria.setBuckets(24);
+
+        String queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV1, equalTo("SELECT value FROM origin.sampleItem;"));
+
+        String queryV2 = instanceV2.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV2, not(containsString("aggregateWindow")));
+    }
+
+    @Test
+    public void testAggregateQueryWithoutBeginDateIsNotAggregated() {
+        AggregateFilterCriteria criteria = new AggregateFilterCriteria();
+        criteria.setItemName(ITEM_NAME);
+        criteria.setOrdering(null);
+        criteria.setEndDate(ZonedDateTime.now());
+        criteria.setResolution(Duration.ofHours(1));
+
+        String queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV1, not(containsString("GROUP BY")));
+
+        String queryV2 = instanceV2.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV2, not(containsString("aggregateWindow")));
+    }
+
     private FilterCriteria createBaseCriteria() {
         return createBaseCriteria(ITEM_NAME);
     }
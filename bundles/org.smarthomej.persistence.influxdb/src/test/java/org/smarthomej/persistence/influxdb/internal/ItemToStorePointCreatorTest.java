@@ -15,6 +15,8 @@ package org.smarthomej.persistence.influxdb.internal;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -194,4 +196,29 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getTags(), hasEntry("key1", "val1"));
         assertThat(point.getTags(), hasEntry("key2", "val2"));
     }
+
+    @Test
+    public void shouldUseCachedTagsUntilInvalidated() {
+        NumberItem item = ItemTestHelper.createNumberItem("myitem", 5);
+        MetadataKey metadataKey = new MetadataKey(InfluxDBPersistenceService.SERVICE_NAME, item.getName());
+
+        Metadata metadata = new Metadata(metadataKey, "", Map.of("key1", "val1"));
+        Metadata updatedMetadata = new Metadata(metadataKey, "", Map.of("key1", "val2"));
+
+        when(metadataRegistry.get(metadataKey)).thenReturn(metadata, updatedMetadata);
+        InfluxPoint point = instance.convert(item, null);
+        InfluxPoint cachedPoint = instance.convert(item, null);
+        instance.getMetadataChangeListener().updated(metadata, updatedMetadata);
+        InfluxPoint updatedPoint = instance.convert(item, null);
+
+        if (point == null || cachedPoint == null || updatedPoint == null) {
+            Assertions.fail("'point' is null");
+            return;
+        }
+
+        assertThat(point.getTags(), hasEntry("key1", "val1"));
+        assertThat(cachedPoint.getTags(), hasEntry("key1", "val1"));
+        assertThat(updatedPoint.getTags(), hasEntry("key1", "val2"));
+        verify(metadataRegistry, times(2)).get(metadataKey);
+    }
 }
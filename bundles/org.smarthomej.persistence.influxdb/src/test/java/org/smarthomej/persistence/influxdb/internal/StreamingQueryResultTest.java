@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault(value = { DefaultLocation.PARAMETER, DefaultLocation.RETURN_TYPE })
+public class StreamingQueryResultTest {
+
+    @Test
+    public void rowsAreStreamedFromProducer() {
+        StreamingQueryResult result = new StreamingQueryResult();
+        CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 5000; i++) {
+                result.add(new InfluxRow(Instant.ofEpochMilli(i), "item", i));
+            }
+            result.complete();
+        });
+
+        List<Object> values = result.stream().map(InfluxRow::getValue).collect(Collectors.toList());
+        assertThat(values, hasSize(5000));
+        assertThat(values.get(4999), is(4999));
+    }
+
+    @Test
+    public void failedQueryThrowsAfterReceivedRows() {
+        StreamingQueryResult result = new StreamingQueryResult();
+        result.add(new InfluxRow(Instant.EPOCH, "item", 1));
+        result.fail(new IllegalStateException("failed"));
+
+        assertThat(result.hasNext(), is(true));
+        assertThat(result.next().getValue(), is(1));
+        InfluxDBQueryException e = assertThrows(InfluxDBQueryException.class, result::hasNext);
+        assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    public void missingRowsThrowAfterTimeout() {
+        StreamingQueryResult result = new StreamingQueryResult(100);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        result.setCancelAction(() -> cancelled.set(true));
+
+        assertThrows(InfluxDBQueryException.class, result::hasNext);
+        assertThat(cancelled.get(), is(true));
+    }
+
+    @Test
+    public void unreadRowsThrowAfterTimeout() {
+        StreamingQueryResult result = new StreamingQueryResult(100);
+        int added = 0;
+        while (result.add(new InfluxRow(Instant.ofEpochMilli(added), "item", added))) {
+            added++;
+        }
+
+        // the buffered rows were discarded when the query was cancelled
+        assertThrows(InfluxDBQueryException.class, result::hasNext);
+    }
+
+    @Test
+    public void closingIteratorCancelsQueryWhenExhausted() {
+        StreamingQueryResult result = new StreamingQueryResult();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        result.setCancelAction(() -> cancelled.set(true));
+        result.add(new InfluxRow(Instant.EPOCH, "item", 1));
+        result.complete();
+
+        ClosingStreamIterator<InfluxRow> iterator = new ClosingStreamIterator<>(result.stream());
+        assertThat(iterator.next().getValue(), is(1));
+        assertThat(cancelled.get(), is(false));
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(cancelled.get(), is(true));
+    }
+
+    @Test
+    public void resultCanOnlyBeIteratedOnce() {
+        AtomicInteger queries = new AtomicInteger();
+        SingleUseIterable<Integer> iterable = new SingleUseIterable<>(() -> {
+            queries.incrementAndGet();
+            return new ClosingStreamIterator<>(Stream.of(1, 2));
+        });
+
+        assertThat(queries.get(), is(0));
+        Iterator<Integer> iterator = iterable.iterator();
+        assertThat(iterator.next(), is(1));
+        assertThrows(IllegalStateException.class, iterable::iterator);
+        assertThat(queries.get(), is(1));
+    }
+
+    @Test
+    public void closingStreamCancelsQuery() throws Exception {
+        StreamingQueryResult result = new StreamingQueryResult();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        result.setCancelAction(() -> cancelled.set(true));
+        CompletableFuture<Integer> producer = CompletableFuture.supplyAsync(() -> {
+            int added = 0;
+            while (result.add(new InfluxRow(Instant.ofEpochMilli(added), "item", added))) {
+                added++;
+            }
+            return added;
+        });
+
+        try (Stream<InfluxRow> stream = result.stream()) {
+            assertThat(stream.limit(10).count(), is(10L));
+        }
+
+        assertThat(cancelled.get(), is(true));
+        // the producer is not blocked after the stream has been closed
+        assertThat(producer.get(5, TimeUnit.SECONDS), is(greaterThanOrEqualTo(10)));
+    }
+}